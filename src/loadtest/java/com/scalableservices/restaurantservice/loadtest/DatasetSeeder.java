@@ -0,0 +1,101 @@
+package com.scalableservices.restaurantservice.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Seeds owners, restaurants and menus straight through JDBC batches so setup stays fast even for large datasets
+@Slf4j
+public class DatasetSeeder {
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DatasetSeeder(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public Dataset seed(LoadTestConfig config) {
+        long start = System.currentTimeMillis();
+        Random random = new Random(config.getSeed());
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+
+        List<Object[]> owners = new ArrayList<>();
+        for (int i = 0; i < config.getOwners(); i++) {
+            owners.add(new Object[]{"Owner " + i, String.format("6%09d", i), "owner" + i + "@loadtest.local", now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO restaurant_owners (name, mobile_number, email, is_deleted, is_archived, created_at, updated_at) "
+                + "VALUES (?, ?, ?, false, false, ?, ?)", owners, BATCH_SIZE, DatasetSeeder::setArgs);
+        long[] ownerIds = ids("SELECT id FROM restaurant_owners ORDER BY id");
+
+        List<Object[]> restaurants = new ArrayList<>();
+        int restaurantIndex = 0;
+        for (long ownerId : ownerIds) {
+            for (int i = 0; i < config.getRestaurantsPerOwner(); i++, restaurantIndex++) {
+                restaurants.add(new Object[]{"Restaurant " + restaurantIndex, restaurantIndex + " Load Test Street",
+                        String.format("7%09d", restaurantIndex), random.nextBoolean(), random.nextBoolean(), ownerId, now, now});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO restaurants (name, address, contact_no, opening_days, opening_time, closing_time, "
+                + "dine_in, take_away, owner_id, status, is_deleted, is_archived, created_at, updated_at) "
+                + "VALUES (?, ?, ?, 'MON-SUN', '09:00', '23:00', ?, ?, ?, 'ACTIVE', false, false, ?, ?)", restaurants, BATCH_SIZE, DatasetSeeder::setArgs);
+        long[] restaurantIds = ids("SELECT id FROM restaurants ORDER BY id");
+
+        List<Object[]> menuItems = new ArrayList<>();
+        for (long restaurantId : restaurantIds) {
+            for (int i = 0; i < config.getMenuItemsPerRestaurant(); i++) {
+                menuItems.add(new Object[]{restaurantId, "Item " + i, "Seeded menu item " + i,
+                        random.nextInt(50000) / 100.0 + 20, now, now});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO restaurant_menus (restaurant_id, item_name, item_description, item_price, "
+                + "is_available, is_deleted, is_archived, created_at, updated_at) VALUES (?, ?, ?, ?, true, false, false, ?, ?)",
+                menuItems, BATCH_SIZE, DatasetSeeder::setArgs);
+        long[] menuItemIds = ids("SELECT id FROM restaurant_menus ORDER BY id");
+
+        log.info("Seeded {} owners, {} restaurants and {} menu items in {} ms", ownerIds.length, restaurantIds.length,
+                menuItemIds.length, System.currentTimeMillis() - start);
+        return new Dataset(ownerIds, restaurantIds, menuItemIds);
+    }
+
+    private long[] ids(String sql) {
+        return jdbcTemplate.queryForList(sql, Long.class).stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static void setArgs(PreparedStatement statement, Object[] args) throws SQLException {
+        for (int i = 0; i < args.length; i++) {
+            statement.setObject(i + 1, args[i]);
+        }
+    }
+
+    public static class Dataset {
+        private final long[] ownerIds;
+        private final long[] restaurantIds;
+        private final long[] menuItemIds;
+
+        Dataset(long[] ownerIds, long[] restaurantIds, long[] menuItemIds) {
+            this.ownerIds = ownerIds;
+            this.restaurantIds = restaurantIds;
+            this.menuItemIds = menuItemIds;
+        }
+
+        public long[] getOwnerIds() {
+            return ownerIds;
+        }
+
+        public long[] getRestaurantIds() {
+            return restaurantIds;
+        }
+
+        public long[] getMenuItemIds() {
+            return menuItemIds;
+        }
+    }
+}
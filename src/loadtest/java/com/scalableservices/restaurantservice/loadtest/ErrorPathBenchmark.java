@@ -0,0 +1,146 @@
+package com.scalableservices.restaurantservice.loadtest;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scalableservices.restaurantservice.controller.RestaurantController;
+import com.scalableservices.restaurantservice.dto.common.ApiResponse;
+import com.scalableservices.restaurantservice.dto.common.ErrorMessage;
+import com.scalableservices.restaurantservice.dto.restaurant.MenuItemRequest;
+import com.scalableservices.restaurantservice.dto.restaurant.MenuItemResponse;
+import com.scalableservices.restaurantservice.exception.ErrorCode;
+import com.scalableservices.restaurantservice.exception.ErrorResponses;
+import com.scalableservices.restaurantservice.exception.ServiceExceptionHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+// Owner-only rejection of PUT /restaurant/menu/{itemId} driven through Spring MVC (DispatcherServlet, argument resolution,
+// exception handling and response writing) with MockMvc. Compares the real controller with two replicas of earlier
+// versions of the same endpoint: a rejection returned as an already completed future, and the original baseline code.
+// mvn -Ploadtest test-compile exec:java -Dexec.mainClass=com.scalableservices.restaurantservice.loadtest.ErrorPathBenchmark
+@Slf4j
+public class ErrorPathBenchmark {
+    private static final int WARMUP_OPS = Integer.getInteger("benchmark.warmupOps", 50_000);
+    private static final int MEASURED_OPS = Integer.getInteger("benchmark.measuredOps", 200_000);
+
+    public static void main(String[] args) throws Exception {
+        // Outside Spring Boot Logback defaults to DEBUG, which would time Spring MVC's per-request debug logging
+        ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.INFO);
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.registerBean(ObjectMapper.class);
+            context.register(ErrorResponses.class);
+            context.refresh();
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+            ErrorResponses errorResponses = context.getBean(ErrorResponses.class);
+
+            // The rejection happens before the controller touches the service or the bulkheads, so neither is wired
+            RestaurantController controller = new RestaurantController();
+            ReflectionTestUtils.setField(controller, "errorResponses", errorResponses);
+            ServiceExceptionHandler exceptionHandler = new ServiceExceptionHandler();
+            ReflectionTestUtils.setField(exceptionHandler, "errorResponses", errorResponses);
+            MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller, new EarlierVersionsController(errorResponses))
+                    .setControllerAdvice(exceptionHandler)
+                    .setMessageConverters(new ByteArrayHttpMessageConverter(), new MappingJackson2HttpMessageConverter(objectMapper))
+                    .build();
+            byte[] body = objectMapper.writeValueAsBytes(MenuItemRequest.builder().itemName("Paneer tikka")
+                    .itemDescription("Grilled cottage cheese").itemPrice(new BigDecimal("249.50")).isAvailable(true).build());
+
+            MicroBenchmark.Result current = MicroBenchmark.run("current: sync ServiceException", WARMUP_OPS, MEASURED_OPS,
+                    () -> perform(mockMvc, rejection("/restaurant/menu/1", body), HttpStatus.UNAUTHORIZED));
+            MicroBenchmark.Result completedFuture = MicroBenchmark.run("completed future + async dispatch", WARMUP_OPS, MEASURED_OPS,
+                    () -> performAsync(mockMvc, rejection("/benchmark/completed-future/menu/1", body), HttpStatus.UNAUTHORIZED));
+            MicroBenchmark.Result baseline = MicroBenchmark.run("baseline: exception + new body", WARMUP_OPS, MEASURED_OPS,
+                    () -> perform(mockMvc, rejection("/benchmark/baseline/menu/1", body), HttpStatus.OK));
+
+            log.info("{}", current);
+            log.info("{}", completedFuture);
+            log.info("{}", baseline);
+        }
+    }
+
+    private static RequestBuilder rejection(String path, byte[] body) {
+        return put(path).header("X-UserType", "customer").contentType(MediaType.APPLICATION_JSON).content(body);
+    }
+
+    private static long perform(MockMvc mockMvc, RequestBuilder request, HttpStatus expected) {
+        try {
+            return check(mockMvc.perform(request).andReturn(), expected);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long performAsync(MockMvc mockMvc, RequestBuilder request, HttpStatus expected) {
+        try {
+            MvcResult started = mockMvc.perform(request).andReturn();
+            return check(mockMvc.perform(asyncDispatch(started)).andReturn(), expected);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long check(MvcResult result, HttpStatus expected) {
+        if (result.getResponse().getStatus() != expected.value()) {
+            throw new IllegalStateException("Unexpected status " + result.getResponse().getStatus());
+        }
+        return result.getResponse().getContentAsByteArray().length;
+    }
+
+    @RestController
+    static class EarlierVersionsController {
+        private final ErrorResponses errorResponses;
+
+        EarlierVersionsController(ErrorResponses errorResponses) {
+            this.errorResponses = errorResponses;
+        }
+
+        // The first ServiceResult version: cached bytes, but wrapped in an already completed future
+        @PutMapping("/benchmark/completed-future/menu/{itemId}")
+        public CompletableFuture<ResponseEntity<ApiResponse<MenuItemResponse>>> completedFuture(@PathVariable Long itemId,
+                @RequestBody MenuItemRequest restaurantMenu, @RequestHeader(value = "X-UserType") String userType) {
+            if (!userType.equalsIgnoreCase("restaurant_owner")) {
+                return CompletableFuture.completedFuture(errorResponses.of(ErrorCode.OWNER_ONLY));
+            }
+            return CompletableFuture.completedFuture(ResponseEntity.ok().build());
+        }
+
+        // The baseline controller: throw a ResponseStatusException, catch it and return a freshly built ApiResponse
+        @PutMapping("/benchmark/baseline/menu/{itemId}")
+        public ApiResponse<MenuItemResponse> baseline(@PathVariable Long itemId,
+                @RequestBody MenuItemRequest restaurantMenu, @RequestHeader(value = "X-UserType") String userType) {
+            try {
+                if (!userType.equalsIgnoreCase("restaurant_owner")) {
+                    throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Only restaurant owners are allowed to update menu items");
+                }
+                return ApiResponse.<MenuItemResponse>builder().status("success").build();
+            } catch (Exception e) {
+                return ApiResponse.<MenuItemResponse>builder()
+                        .error(ErrorMessage.builder().error("Menu item update failed").description(e.getMessage()).build())
+                        .build();
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.scalableservices.restaurantservice.loadtest;
+
+import java.util.Arrays;
+
+// Single-writer latency log; each worker thread owns one per operation and they are merged after the run
+public class LatencyRecorder {
+    private long[] latenciesNanos = new long[1024];
+    private int count;
+    private long errors;
+    private boolean sorted;
+
+    public void record(long latencyNanos, boolean success) {
+        if (!success) {
+            errors++;
+        }
+        if (count == latenciesNanos.length) {
+            latenciesNanos = Arrays.copyOf(latenciesNanos, count * 2);
+        }
+        latenciesNanos[count++] = latencyNanos;
+        sorted = false;
+    }
+
+    public void mergeFrom(LatencyRecorder other) {
+        if (count + other.count > latenciesNanos.length) {
+            latenciesNanos = Arrays.copyOf(latenciesNanos, Math.max(count + other.count, latenciesNanos.length * 2));
+        }
+        System.arraycopy(other.latenciesNanos, 0, latenciesNanos, count, other.count);
+        count += other.count;
+        errors += other.errors;
+        sorted = false;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    // Nearest-rank percentile in milliseconds
+    public double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        if (!sorted) {
+            Arrays.sort(latenciesNanos, 0, count);
+            sorted = true;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * count);
+        return latenciesNanos[Math.max(0, Math.min(count, rank) - 1)] / 1_000_000.0;
+    }
+}
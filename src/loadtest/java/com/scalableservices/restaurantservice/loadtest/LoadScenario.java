@@ -0,0 +1,128 @@
+package com.scalableservices.restaurantservice.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scalableservices.restaurantservice.dto.restaurant.MenuItemRequest;
+import com.scalableservices.restaurantservice.dto.restaurant.RestaurantBatchRequest;
+import com.scalableservices.restaurantservice.dto.restaurant.RestaurantOwnerRequest;
+import com.scalableservices.restaurantservice.dto.restaurant.RestaurantRequest;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Issues one weighted-random operation at a time against the running service over HTTP
+public class LoadScenario {
+    private static final String USER_TYPE_HEADER = "X-UserType";
+    private static final String OWNER = "restaurant_owner";
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final DatasetSeeder.Dataset dataset;
+    private final Operation[] weightedOperations;
+    // Fresh numbers for registrations, disjoint from the seeded 6xxx/7xxx ranges
+    private final AtomicLong nextMobileNumber = new AtomicLong(8_000_000_000L);
+    private final AtomicLong nextContactNo = new AtomicLong(9_000_000_000L);
+
+    public LoadScenario(String baseUrl, DatasetSeeder.Dataset dataset, Map<Operation, Integer> mix) {
+        this.baseUrl = baseUrl;
+        this.dataset = dataset;
+        List<Operation> operations = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                operations.add(operation);
+            }
+        });
+        this.weightedOperations = operations.toArray(new Operation[0]);
+    }
+
+    public Operation nextOperation() {
+        return weightedOperations[ThreadLocalRandom.current().nextInt(weightedOperations.length)];
+    }
+
+    // Runs the operation and returns whether the service answered with a 2xx status
+    public boolean execute(Operation operation) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        HttpRequest request;
+        switch (operation) {
+            case REGISTER_OWNER:
+                request = post("/restaurant/owner/register", RestaurantOwnerRequest.builder().name("Load Owner")
+                        .mobileNumber(String.valueOf(nextMobileNumber.incrementAndGet())).password("secret")
+                        .email("load@loadtest.local").build());
+                break;
+            case REGISTER_RESTAURANT:
+                request = post("/restaurant/register", RestaurantRequest.builder().name("Load Restaurant")
+                        .address("1 Load Test Street").contactNo(String.valueOf(nextContactNo.incrementAndGet()))
+                        .openingDays("MON-SUN").openingTime("09:00").closingTime("23:00").dineIn(true).takeAway(true)
+                        .ownerId(pick(dataset.getOwnerIds(), random)).build());
+                break;
+            case MENU_UPLOAD:
+                List<MenuItemRequest> items = new ArrayList<>();
+                for (int i = 0; i < 5; i++) {
+                    items.add(menuItem("Uploaded item " + i, random));
+                }
+                request = post("/restaurant/" + pick(dataset.getRestaurantIds(), random) + "/menu", items);
+                break;
+            case MENU_UPDATE:
+                request = HttpRequest.newBuilder(URI.create(baseUrl + "/restaurant/menu/" + pick(dataset.getMenuItemIds(), random)))
+                        .header("Content-Type", "application/json").header(USER_TYPE_HEADER, OWNER)
+                        .PUT(body(menuItem("Updated item", random))).build();
+                break;
+            case GET_RESTAURANT:
+                request = HttpRequest.newBuilder(URI.create(baseUrl + "/restaurant/" + pick(dataset.getRestaurantIds(), random)))
+                        .GET().build();
+                break;
+            case BATCH_READ:
+                List<Long> restaurantIds = new ArrayList<>();
+                List<Long> menuItemIds = new ArrayList<>();
+                for (int i = 0; i < 10; i++) {
+                    restaurantIds.add(pick(dataset.getRestaurantIds(), random));
+                    menuItemIds.add(pick(dataset.getMenuItemIds(), random));
+                }
+                request = post("/restaurant/batch", RestaurantBatchRequest.builder().restaurantIds(restaurantIds)
+                        .menuItemIds(menuItemIds).build());
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported operation " + operation);
+        }
+        int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        return status >= 200 && status < 300;
+    }
+
+    private HttpRequest post(String path, Object payload) throws IOException {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json").header(USER_TYPE_HEADER, OWNER)
+                .POST(body(payload)).build();
+    }
+
+    private HttpRequest.BodyPublisher body(Object payload) throws IOException {
+        return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(payload));
+    }
+
+    private static MenuItemRequest menuItem(String name, ThreadLocalRandom random) {
+        return MenuItemRequest.builder().itemName(name).itemDescription("Load test menu item")
+                .itemPrice(BigDecimal.valueOf(random.nextInt(2000, 50000), 2)).isAvailable(true).build();
+    }
+
+    private static long pick(long[] ids, ThreadLocalRandom random) {
+        return ids[random.nextInt(ids.length)];
+    }
+
+    public static Map<Operation, LatencyRecorder> newRecorders() {
+        Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new LatencyRecorder());
+        }
+        return recorders;
+    }
+}
@@ -0,0 +1,44 @@
+package com.scalableservices.restaurantservice.loadtest;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.Map;
+
+// Load test settings, overridable with -Dloadtest.<name>=<value>
+@Getter
+public class LoadTestConfig {
+    private final int owners = intProperty("owners", 50);
+    private final int restaurantsPerOwner = intProperty("restaurantsPerOwner", 4);
+    private final int menuItemsPerRestaurant = intProperty("menuItemsPerRestaurant", 20);
+    private final int threads = intProperty("threads", 16);
+    private final int warmupSeconds = intProperty("warmupSeconds", 5);
+    private final int durationSeconds = intProperty("durationSeconds", 30);
+    private final long seed = Long.getLong("loadtest.seed", 42L);
+    private final Path reportPath = Paths.get(System.getProperty("loadtest.report", "target/loadtest/report.json"));
+    private final Path baselinePath = Paths.get(System.getProperty("loadtest.baseline", "src/loadtest/baseline.json"));
+    private final boolean updateBaseline = Boolean.getBoolean("loadtest.updateBaseline");
+    // Allowed relative regression against the baseline before the run fails, e.g. 0.2 = 20%
+    private final double tolerance = Double.parseDouble(System.getProperty("loadtest.tolerance", "0.2"));
+    // Latency differences below this are treated as noise regardless of the relative change
+    private final double minRegressionMillis = Double.parseDouble(System.getProperty("loadtest.minRegressionMillis", "2"));
+    // Highest error rate accepted when the baseline's own is lower, e.g. 0.01 = 1%; by default any error beyond the baseline's fails
+    private final double maxErrorRate = Double.parseDouble(System.getProperty("loadtest.maxErrorRate", "0"));
+    private final Map<Operation, Integer> mix = parseMix(System.getProperty("loadtest.mix",
+            "registerOwner=5,registerRestaurant=5,menuUpload=10,menuUpdate=30,getRestaurant=35,batchRead=15"));
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.getInteger("loadtest." + name, defaultValue);
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            weights.put(Operation.fromKey(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
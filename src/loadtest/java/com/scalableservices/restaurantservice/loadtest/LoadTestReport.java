@@ -0,0 +1,119 @@
+package com.scalableservices.restaurantservice.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Machine-readable run summary, plus the regression check against a stored baseline of the same shape
+public class LoadTestReport {
+    private static final String[] LATENCY_METRICS = {"p50Millis", "p99Millis", "p999Millis"};
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final Map<String, Object> report = new LinkedHashMap<>();
+
+    public LoadTestReport(LoadTestConfig config, Map<Operation, LatencyRecorder> results, double elapsedSeconds) {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("owners", config.getOwners());
+        settings.put("restaurantsPerOwner", config.getRestaurantsPerOwner());
+        settings.put("menuItemsPerRestaurant", config.getMenuItemsPerRestaurant());
+        settings.put("threads", config.getThreads());
+        settings.put("durationSeconds", config.getDurationSeconds());
+
+        LatencyRecorder overall = new LatencyRecorder();
+        Map<String, Object> operations = new LinkedHashMap<>();
+        results.forEach((operation, recorder) -> {
+            if (recorder.getCount() > 0) {
+                operations.put(operation.getKey(), summary(recorder, elapsedSeconds));
+                overall.mergeFrom(recorder);
+            }
+        });
+
+        report.put("timestamp", Instant.now().toString());
+        report.put("settings", settings);
+        report.put("overall", summary(overall, elapsedSeconds));
+        report.put("operations", operations);
+    }
+
+    private static Map<String, Object> summary(LatencyRecorder recorder, double elapsedSeconds) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", recorder.getCount());
+        summary.put("errors", recorder.getErrors());
+        summary.put("throughputPerSecond", round(recorder.getCount() / elapsedSeconds));
+        summary.put("p50Millis", round(recorder.percentileMillis(50)));
+        summary.put("p99Millis", round(recorder.percentileMillis(99)));
+        summary.put("p999Millis", round(recorder.percentileMillis(99.9)));
+        return summary;
+    }
+
+    public void write(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        objectMapper.writeValue(path.toFile(), report);
+    }
+
+    // Returns one message per metric that regressed beyond the tolerance; empty means the run passes
+    public List<String> compareWith(Path baselinePath, double tolerance, double minRegressionMillis, double maxErrorRate)
+            throws IOException {
+        JsonNode baseline = objectMapper.readTree(baselinePath.toFile());
+        JsonNode current = objectMapper.valueToTree(report);
+        List<String> regressions = new ArrayList<>();
+
+        List<String> sections = new ArrayList<>();
+        sections.add("overall");
+        baseline.path("operations").fieldNames().forEachRemaining(name -> sections.add("operations." + name));
+        for (String section : sections) {
+            JsonNode expected = node(baseline, section);
+            JsonNode actual = node(current, section);
+            if (actual.isMissingNode()) {
+                continue;
+            }
+            // Checked first: a change that turns requests into fast failures would otherwise pass as a latency win
+            double baselineErrorRate = errorRate(expected);
+            double errorRate = errorRate(actual);
+            if (errorRate > Math.max(baselineErrorRate, maxErrorRate)) {
+                regressions.add(String.format("%s errors rose from %d (%.2f%%) to %d (%.2f%%)", section,
+                        expected.path("errors").asLong(), baselineErrorRate * 100, actual.path("errors").asLong(), errorRate * 100));
+            }
+            for (String metric : LATENCY_METRICS) {
+                double before = expected.path(metric).asDouble();
+                double after = actual.path(metric).asDouble();
+                if (after > before * (1 + tolerance) && after - before > minRegressionMillis) {
+                    regressions.add(String.format("%s %s regressed from %.2f ms to %.2f ms", section, metric, before, after));
+                }
+            }
+            double baselineThroughput = expected.path("throughputPerSecond").asDouble();
+            double throughput = actual.path("throughputPerSecond").asDouble();
+            if (throughput < baselineThroughput * (1 - tolerance)) {
+                regressions.add(String.format("%s throughput dropped from %.1f/s to %.1f/s", section, baselineThroughput, throughput));
+            }
+        }
+        return regressions;
+    }
+
+    private static double errorRate(JsonNode summary) {
+        long requests = summary.path("requests").asLong();
+        return requests == 0 ? 0 : (double) summary.path("errors").asLong() / requests;
+    }
+
+    private static JsonNode node(JsonNode root, String dottedPath) {
+        JsonNode node = root;
+        for (String part : dottedPath.split("\\.")) {
+            node = node.path(part);
+        }
+        return node;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
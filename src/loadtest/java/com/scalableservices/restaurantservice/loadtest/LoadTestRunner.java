@@ -0,0 +1,92 @@
+package com.scalableservices.restaurantservice.loadtest;
+
+import com.scalableservices.restaurantservice.RestaurantServiceApplication;
+import com.scalableservices.restaurantservice.service.KnownNumbers;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+// Boots the service against the local DB stand-in, seeds it, drives the mixed workload and gates on the baseline
+@Slf4j
+public class LoadTestRunner {
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = new LoadTestConfig();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(RestaurantServiceApplication.class)
+                .profiles("loadtest").run(args)) {
+            DatasetSeeder.Dataset dataset = new DatasetSeeder(context.getBean(DataSource.class)).seed(config);
+            // The seeded numbers were written behind the service's back, so re-warm its uniqueness filters
+            context.getBean(KnownNumbers.class).warmUp();
+
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            LoadScenario scenario = new LoadScenario(baseUrl, dataset, config.getMix());
+
+            log.info("Warming up for {} s", config.getWarmupSeconds());
+            drive(scenario, config.getThreads(), config.getWarmupSeconds());
+            log.info("Running mixed workload with {} threads for {} s", config.getThreads(), config.getDurationSeconds());
+            long start = System.nanoTime();
+            Map<Operation, LatencyRecorder> results = drive(scenario, config.getThreads(), config.getDurationSeconds());
+            double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            LoadTestReport report = new LoadTestReport(config, results, elapsedSeconds);
+            report.write(config.getReportPath());
+            log.info("Load test report written to {}", config.getReportPath().toAbsolutePath());
+
+            if (config.isUpdateBaseline()) {
+                report.write(config.getBaselinePath());
+                log.info("Baseline updated at {}", config.getBaselinePath().toAbsolutePath());
+            } else if (!Files.exists(config.getBaselinePath())) {
+                // Baselines are machine specific, so none is committed; a missing one must not turn the gate into a no-op
+                throw new IllegalStateException("No baseline at " + config.getBaselinePath().toAbsolutePath()
+                        + ", record one on this machine with -Dloadtest.updateBaseline=true");
+            } else {
+                List<String> regressions = report.compareWith(config.getBaselinePath(), config.getTolerance(),
+                        config.getMinRegressionMillis(), config.getMaxErrorRate());
+                if (!regressions.isEmpty()) {
+                    regressions.forEach(log::error);
+                    throw new IllegalStateException("Load test regressed against baseline: " + regressions);
+                }
+                log.info("No regressions against baseline {}", config.getBaselinePath());
+            }
+        }
+    }
+
+    private static Map<Operation, LatencyRecorder> drive(LoadScenario scenario, int threads, int seconds) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        List<Future<Map<Operation, LatencyRecorder>>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(workers.submit(() -> {
+                Map<Operation, LatencyRecorder> recorders = LoadScenario.newRecorders();
+                while (System.nanoTime() < deadline) {
+                    Operation operation = scenario.nextOperation();
+                    long started = System.nanoTime();
+                    boolean success;
+                    try {
+                        success = scenario.execute(operation);
+                    } catch (Exception e) {
+                        success = false;
+                    }
+                    recorders.get(operation).record(System.nanoTime() - started, success);
+                }
+                return recorders;
+            }));
+        }
+
+        Map<Operation, LatencyRecorder> merged = LoadScenario.newRecorders();
+        for (Future<Map<Operation, LatencyRecorder>> future : futures) {
+            future.get().forEach((operation, recorder) -> merged.get(operation).mergeFrom(recorder));
+        }
+        workers.shutdown();
+        return merged;
+    }
+}
@@ -0,0 +1,50 @@
+package com.scalableservices.restaurantservice.loadtest;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.LongSupplier;
+
+// Minimal single-threaded harness: warms an operation up, then reports its mean time and heap allocation per call
+public final class MicroBenchmark {
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    // Operations fold their output in here so the JIT cannot drop them as dead code
+    private static volatile long sink;
+
+    private MicroBenchmark() {
+    }
+
+    public static Result run(String name, int warmupOps, int measuredOps, LongSupplier operation) {
+        long folded = 0;
+        for (int i = 0; i < warmupOps; i++) {
+            folded += operation.getAsLong();
+        }
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = THREADS.getThreadAllocatedBytes(threadId);
+        long started = System.nanoTime();
+        for (int i = 0; i < measuredOps; i++) {
+            folded += operation.getAsLong();
+        }
+        long elapsedNanos = System.nanoTime() - started;
+        long allocated = THREADS.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        sink += folded;
+        return new Result(name, (double) elapsedNanos / measuredOps, (double) allocated / measuredOps);
+    }
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Result {
+        private final String name;
+        private final double nanosPerOp;
+        private final double bytesPerOp;
+
+        @Override
+        public String toString() {
+            return String.format("%-32s %10.1f ns/op %10.1f B/op", name, nanosPerOp, bytesPerOp);
+        }
+    }
+}
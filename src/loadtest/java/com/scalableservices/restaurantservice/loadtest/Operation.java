@@ -0,0 +1,29 @@
+package com.scalableservices.restaurantservice.loadtest;
+
+public enum Operation {
+    REGISTER_OWNER("registerOwner"),
+    REGISTER_RESTAURANT("registerRestaurant"),
+    MENU_UPLOAD("menuUpload"),
+    MENU_UPDATE("menuUpdate"),
+    GET_RESTAURANT("getRestaurant"),
+    BATCH_READ("batchRead");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown load test operation " + key);
+    }
+}
@@ -0,0 +1,120 @@
+package com.scalableservices.restaurantservice.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scalableservices.restaurantservice.config.ScaledPriceModule;
+import com.scalableservices.restaurantservice.dto.common.ApiResponse;
+import com.scalableservices.restaurantservice.dto.restaurant.MenuItemResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// Payload size and (de)serialization cost of a menu response in JSON against the Smile and CBOR converters in WebConfig.
+// Every format is also measured gzipped, as server.compression sends it, with gzip + gunzip included in the cost;
+// gzipped JSON is the baseline a binary format has to beat.
+// mvn -Ploadtest test-compile exec:java -Dexec.mainClass=com.scalableservices.restaurantservice.loadtest.WireFormatBenchmark
+@Slf4j
+public class WireFormatBenchmark {
+    private static final int MENU_ITEMS = Integer.getInteger("benchmark.menuItems", 100);
+    private static final int WARMUP_OPS = Integer.getInteger("benchmark.warmupOps", 20_000);
+    private static final int MEASURED_OPS = Integer.getInteger("benchmark.measuredOps", 50_000);
+    private static final TypeReference<ApiResponse<List<MenuItemResponse>>> MENU_RESPONSE =
+            new TypeReference<ApiResponse<List<MenuItemResponse>>>() {
+            };
+
+    public static void main(String[] args) throws JsonProcessingException {
+        Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+        // Same builders as the default JSON converter and the binary converters registered in WebConfig
+        mappers.put("json", Jackson2ObjectMapperBuilder.json().build());
+        mappers.put("cbor", Jackson2ObjectMapperBuilder.cbor().modulesToInstall(new ScaledPriceModule()).build());
+        mappers.put("smile", Jackson2ObjectMapperBuilder.smile().modulesToInstall(new ScaledPriceModule()).build());
+
+        ApiResponse<List<MenuItemResponse>> menu = menuResponse(MENU_ITEMS);
+        for (Map.Entry<String, ObjectMapper> entry : mappers.entrySet()) {
+            String format = entry.getKey();
+            ObjectMapper mapper = entry.getValue();
+            byte[] encoded = mapper.writeValueAsBytes(menu);
+            if (!menu.equals(decode(mapper, encoded))) {
+                throw new IllegalStateException(format + " does not round-trip the menu response");
+            }
+
+            MicroBenchmark.Result serialize = MicroBenchmark.run(format + " serialize", WARMUP_OPS, MEASURED_OPS,
+                    () -> encode(mapper, menu).length);
+            MicroBenchmark.Result deserialize = MicroBenchmark.run(format + " deserialize", WARMUP_OPS, MEASURED_OPS,
+                    () -> decode(mapper, encoded).getData().size());
+            byte[] gzipped = gzip(encoded);
+            MicroBenchmark.Result serializeGzip = MicroBenchmark.run(format + " serialize + gzip", WARMUP_OPS, MEASURED_OPS,
+                    () -> gzip(encode(mapper, menu)).length);
+            MicroBenchmark.Result deserializeGzip = MicroBenchmark.run(format + " gunzip + deserialize", WARMUP_OPS, MEASURED_OPS,
+                    () -> decode(mapper, gunzip(gzipped)).getData().size());
+            log.info("{} payload for {} menu items: {} bytes, {} bytes gzipped", format, MENU_ITEMS, encoded.length, gzipped.length);
+            log.info("{}", serialize);
+            log.info("{}", deserialize);
+            log.info("{}", serializeGzip);
+            log.info("{}", deserializeGzip);
+        }
+    }
+
+    private static ApiResponse<List<MenuItemResponse>> menuResponse(int items) {
+        List<MenuItemResponse> menuItems = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            menuItems.add(MenuItemResponse.builder().id(10_000L + i).itemName("Menu item " + i)
+                    .itemDescription("Freshly prepared dish number " + i + " from the restaurant kitchen")
+                    .itemPrice(BigDecimal.valueOf(9_900 + i * 125L, 2)).isAvailable(i % 7 != 0).build());
+        }
+        return ApiResponse.<List<MenuItemResponse>>builder().status("success").data(menuItems).build();
+    }
+
+    private static byte[] encode(ObjectMapper mapper, Object value) {
+        try {
+            return mapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Same codec and default level as Tomcat's compression filter
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] bytes) {
+        try (InputStream gunzip = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length * 4);
+            byte[] buffer = new byte[8192];
+            for (int read = gunzip.read(buffer); read != -1; read = gunzip.read(buffer)) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ApiResponse<List<MenuItemResponse>> decode(ObjectMapper mapper, byte[] encoded) {
+        try {
+            return mapper.readValue(encoded, MENU_RESPONSE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.scalableservices.restaurantservice.bulkhead;
+
+import com.scalableservices.restaurantservice.config.BulkheadProperties;
+import com.scalableservices.restaurantservice.exception.ErrorCode;
+import com.scalableservices.restaurantservice.exception.ServiceException;
+import com.scalableservices.restaurantservice.ratelimit.AdaptiveConcurrencyLimiter;
+import com.scalableservices.restaurantservice.ratelimit.RequestMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// One bounded executor per workload so a slow workload cannot exhaust threads or connections of another
+@Component
+@Slf4j
+public class BulkheadExecutors {
+    @Autowired
+    private BulkheadProperties properties;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+    @Autowired
+    private RequestMetrics requestMetrics;
+
+    private final Map<Workload, ThreadPoolExecutor> executors = new EnumMap<>(Workload.class);
+    private final ScheduledThreadPoolExecutor timeoutScheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread = new Thread(runnable, "bulkhead-timeout");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    public void init() {
+        timeoutScheduler.setRemoveOnCancelPolicy(true);
+        for (Workload workload : Workload.values()) {
+            BulkheadProperties.Settings settings = properties.settingsFor(workload);
+            AtomicInteger threadCount = new AtomicInteger();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(settings.getThreads(), settings.getThreads(),
+                    60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(settings.getQueueDepth()),
+                    runnable -> new Thread(runnable, "bulkhead-" + workload.getName() + "-" + threadCount.incrementAndGet()),
+                    new ThreadPoolExecutor.AbortPolicy());
+            executors.put(workload, executor);
+
+            Tags tags = Tags.of("workload", workload.getName());
+            meterRegistry.gauge("restaurant.bulkhead.active", tags, executor, ThreadPoolExecutor::getActiveCount);
+            meterRegistry.gauge("restaurant.bulkhead.queued", tags, executor, e -> e.getQueue().size());
+            meterRegistry.gauge("restaurant.bulkhead.saturation", tags, executor,
+                    e -> (double) (e.getActiveCount() + e.getQueue().size()) / (settings.getThreads() + settings.getQueueDepth()));
+        }
+    }
+
+    public <T> CompletableFuture<T> submit(Workload workload, Supplier<T> task) {
+        BulkheadProperties.Settings settings = properties.settingsFor(workload);
+        Tags tags = Tags.of("workload", workload.getName());
+        boolean limited = concurrencyLimiter.isEnabled();
+        if (limited && !concurrencyLimiter.tryAcquire(workload)) {
+            requestMetrics.shed(workload, "concurrency");
+            throw new ServiceException(ErrorCode.OVERLOADED);
+        }
+        Runnable releasePermit = limited ? () -> concurrencyLimiter.release(workload) : () -> { };
+        CompletableFuture<T> result = new CompletableFuture<>();
+        // Claimed by whichever comes first: a worker starting the task, or the timeout abandoning it while still queued
+        AtomicBoolean claimed = new AtomicBoolean();
+        long submittedAt = System.nanoTime();
+
+        ThreadPoolExecutor executor = executors.get(workload);
+        Future<?> future;
+        try {
+            future = executor.submit(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    return;
+                }
+                meterRegistry.timer("restaurant.bulkhead.queue.wait", tags)
+                        .record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                WorkloadContext.set(workload);
+                try {
+                    result.complete(task.get());
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                } finally {
+                    WorkloadContext.clear();
+                    releasePermit.run();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            releasePermit.run();
+            requestMetrics.shed(workload, "bulkhead_full");
+            meterRegistry.counter("restaurant.bulkhead.rejected", tags).increment();
+            log.warn("Bulkhead {} is saturated, rejecting request", workload.getName());
+            throw new ServiceException(ErrorCode.SERVICE_BUSY);
+        }
+        requestMetrics.admitted(workload);
+
+        ScheduledFuture<?> timeout = timeoutScheduler.schedule(() -> {
+            if (claimed.compareAndSet(false, true)) {
+                // Never started, so nothing was applied and the caller can safely retry
+                future.cancel(false);
+                executor.remove((Runnable) future);
+                releasePermit.run();
+                timedOut(result, ErrorCode.REQUEST_TIMED_OUT, tags.and("outcome", "not_started"));
+            } else if (workload.isInterruptible()) {
+                if (timedOut(result, ErrorCode.REQUEST_TIMED_OUT, tags.and("outcome", "interrupted"))) {
+                    future.cancel(true);
+                }
+            } else {
+                // A running write may already have committed; let it finish and tell the caller the outcome is unknown
+                timedOut(result, ErrorCode.WRITE_OUTCOME_UNKNOWN, tags.and("outcome", "unknown"));
+            }
+        }, settings.getTimeoutMillis(), TimeUnit.MILLISECONDS);
+        result.whenComplete((response, error) -> timeout.cancel(false));
+        return result;
+    }
+
+    // For non-blocking tasks: takes the workload's concurrency permit and timeout, but no executor thread
+    public <T> CompletableFuture<T> submitAsync(Workload workload, Supplier<CompletableFuture<T>> task) {
+        BulkheadProperties.Settings settings = properties.settingsFor(workload);
+        Tags tags = Tags.of("workload", workload.getName());
+        boolean limited = concurrencyLimiter.isEnabled();
+        if (limited && !concurrencyLimiter.tryAcquire(workload)) {
+            requestMetrics.shed(workload, "concurrency");
+            throw new ServiceException(ErrorCode.OVERLOADED);
+        }
+        requestMetrics.admitted(workload);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        result.whenComplete((response, error) -> {
+            if (limited) {
+                concurrencyLimiter.release(workload);
+            }
+        });
+        try {
+            task.get().whenComplete((response, error) -> {
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(response);
+                }
+            });
+        } catch (Throwable t) {
+            result.completeExceptionally(t);
+        }
+
+        ScheduledFuture<?> timeout = timeoutScheduler.schedule(
+                () -> timedOut(result, ErrorCode.REQUEST_TIMED_OUT, tags.and("outcome", "abandoned")),
+                settings.getTimeoutMillis(), TimeUnit.MILLISECONDS);
+        result.whenComplete((response, error) -> timeout.cancel(false));
+        return result;
+    }
+
+    private boolean timedOut(CompletableFuture<?> result, ErrorCode errorCode, Tags tags) {
+        if (!result.completeExceptionally(new ServiceException(errorCode))) {
+            return false;
+        }
+        meterRegistry.counter("restaurant.bulkhead.timeouts", tags).increment();
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timeoutScheduler.shutdownNow();
+        executors.values().forEach(ThreadPoolExecutor::shutdown);
+    }
+}
@@ -0,0 +1,24 @@
+package com.scalableservices.restaurantservice.bulkhead;
+
+public enum Workload {
+    REGISTRATION("registration", false),
+    MENU_WRITE("menu-write", false),
+    READ("read", true);
+
+    private final String name;
+    // Whether a running task may be interrupted on timeout; writes may already have committed, so they never are
+    private final boolean interruptible;
+
+    Workload(String name, boolean interruptible) {
+        this.name = name;
+        this.interruptible = interruptible;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isInterruptible() {
+        return interruptible;
+    }
+}
@@ -0,0 +1,22 @@
+package com.scalableservices.restaurantservice.bulkhead;
+
+// Workload of the current thread, used to route JDBC connections to the matching Hikari sub-pool
+public final class WorkloadContext {
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    public static Workload current() {
+        Workload workload = CURRENT.get();
+        return workload == null ? Workload.READ : workload;
+    }
+
+    static void set(Workload workload) {
+        CURRENT.set(workload);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+}
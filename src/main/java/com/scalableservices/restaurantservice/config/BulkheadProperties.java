@@ -0,0 +1,42 @@
+package com.scalableservices.restaurantservice.config;
+
+import com.scalableservices.restaurantservice.bulkhead.Workload;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties("restaurant.bulkhead")
+public class BulkheadProperties {
+    // Owner and restaurant registration/updates
+    private Settings registration = new Settings(4, 50, 5000, 3);
+    // Menu uploads and menu item updates
+    private Settings menuWrite = new Settings(4, 50, 5000, 3);
+    // Everything else, including work running outside a bulkhead executor
+    private Settings read = new Settings(8, 200, 2000, 4);
+
+    public Settings settingsFor(Workload workload) {
+        switch (workload) {
+            case REGISTRATION:
+                return registration;
+            case MENU_WRITE:
+                return menuWrite;
+            default:
+                return read;
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Settings {
+        private int threads;
+        private int queueDepth;
+        private long timeoutMillis;
+        // Maximum size of this workload's Hikari sub-pool
+        private int poolSize;
+    }
+}
@@ -1,11 +1,15 @@
 package com.scalableservices.restaurantservice.config;
 
+import com.scalableservices.restaurantservice.bulkhead.Workload;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.orm.jpa.HibernateProperties;
 import org.springframework.boot.autoconfigure.orm.jpa.HibernateSettings;
 import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
-import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.boot.orm.jpa.EntityManagerFactoryBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -18,6 +22,7 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 import javax.persistence.EntityManagerFactory;
 import javax.sql.DataSource;
+import java.util.HashMap;
 import java.util.Map;
 
 @Configuration
@@ -28,11 +33,38 @@ import java.util.Map;
 )
 @EnableTransactionManagement
 public class FdsDatabaseConfig {
+    @Bean(name = "fdsRestaurantDbHikariConfig")
+    @ConfigurationProperties("spring.fds-restaurant-db.datasource.hikari")
+    public HikariConfig fdsRestaurantDbHikariConfig() {
+        return new HikariConfig();
+    }
+
+    // One Hikari sub-pool per workload, sized by restaurant.bulkhead.*.pool-size
     @Primary
     @Bean(name = "fdsRestaurantDb")
-    @ConfigurationProperties("spring.fds-restaurant-db.datasource.hikari")
-    public DataSource primaryDataSource() {
-        return DataSourceBuilder.create().build();
+    public DataSource primaryDataSource(
+            @Qualifier("fdsRestaurantDbHikariConfig") HikariConfig baseConfig,
+            BulkheadProperties bulkheadProperties,
+            MeterRegistry meterRegistry) {
+        String basePoolName = baseConfig.getPoolName() != null ? baseConfig.getPoolName() : "fds-restaurant-pool";
+        Map<Object, Object> subPools = new HashMap<>();
+        for (Workload workload : Workload.values()) {
+            int poolSize = bulkheadProperties.settingsFor(workload).getPoolSize();
+            HikariConfig config = new HikariConfig();
+            baseConfig.copyStateTo(config);
+            config.setPoolName(basePoolName + "-" + workload.getName());
+            config.setMaximumPoolSize(poolSize);
+            if (baseConfig.getMinimumIdle() >= 0) {
+                config.setMinimumIdle(Math.min(baseConfig.getMinimumIdle(), poolSize));
+            }
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            subPools.put(workload, new HikariDataSource(config));
+        }
+
+        WorkloadRoutingDataSource dataSource = new WorkloadRoutingDataSource();
+        dataSource.setTargetDataSources(subPools);
+        dataSource.setDefaultTargetDataSource(subPools.get(Workload.READ));
+        return dataSource;
     }
 
     @Primary
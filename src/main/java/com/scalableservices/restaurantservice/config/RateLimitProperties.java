@@ -0,0 +1,55 @@
+package com.scalableservices.restaurantservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties("restaurant.rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+
+    // Default token bucket applied to every endpoint unless overridden below
+    private BucketLimit defaults = new BucketLimit();
+
+    // Per-endpoint overrides keyed by controller method name, e.g. addMenuToRestaurant
+    private Map<String, BucketLimit> endpoints = new HashMap<>();
+
+    // Header carrying the caller identity when running behind a gateway that sets it; the remote address otherwise.
+    // Must be a header the gateway always overwrites, or callers could pick a fresh bucket per request
+    private String clientIdHeader;
+
+    // Buckets not touched for this long are evicted
+    private long idleEvictionMillis = 300000;
+    // Upper bound on tracked callers; beyond it new callers share an overflow bucket per endpoint
+    private int maxKeys = 100000;
+
+    private Concurrency concurrency = new Concurrency();
+
+    public BucketLimit limitFor(String endpoint) {
+        return endpoints.getOrDefault(endpoint, defaults);
+    }
+
+    @Data
+    public static class BucketLimit {
+        private long capacity = 20;
+        private double refillPerSecond = 10;
+    }
+
+    // Applied to each bulkhead workload independently, sampled from that workload's own Hikari sub-pool
+    @Data
+    public static class Concurrency {
+        private boolean enabled = true;
+        private int initialLimit = 20;
+        private int minLimit = 2;
+        private int maxLimit = 200;
+        // Hikari connection acquire time above which the limit is backed off
+        private long targetPoolWaitMillis = 50;
+        private double backoffRatio = 0.8;
+        private long sampleIntervalMillis = 1000;
+    }
+}
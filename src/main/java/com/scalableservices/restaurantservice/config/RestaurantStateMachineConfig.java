@@ -0,0 +1,39 @@
+package com.scalableservices.restaurantservice.config;
+
+import com.scalableservices.restaurantservice.model.RestaurantEvent;
+import com.scalableservices.restaurantservice.model.RestaurantStatus;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.statemachine.config.EnableStateMachineFactory;
+import org.springframework.statemachine.config.EnumStateMachineConfigurerAdapter;
+import org.springframework.statemachine.config.builders.StateMachineStateConfigurer;
+import org.springframework.statemachine.config.builders.StateMachineTransitionConfigurer;
+
+import java.util.EnumSet;
+
+// Restaurant lifecycle: PENDING -> ACTIVE <-> PAUSED, and any open state -> CLOSED
+@Configuration
+@EnableStateMachineFactory
+public class RestaurantStateMachineConfig extends EnumStateMachineConfigurerAdapter<RestaurantStatus, RestaurantEvent> {
+    @Override
+    public void configure(StateMachineStateConfigurer<RestaurantStatus, RestaurantEvent> states) throws Exception {
+        states.withStates()
+                .initial(RestaurantStatus.PENDING)
+                .states(EnumSet.allOf(RestaurantStatus.class));
+    }
+
+    @Override
+    public void configure(StateMachineTransitionConfigurer<RestaurantStatus, RestaurantEvent> transitions) throws Exception {
+        transitions
+                .withExternal().source(RestaurantStatus.PENDING).target(RestaurantStatus.ACTIVE).event(RestaurantEvent.ACTIVATE)
+                .and()
+                .withExternal().source(RestaurantStatus.ACTIVE).target(RestaurantStatus.PAUSED).event(RestaurantEvent.PAUSE)
+                .and()
+                .withExternal().source(RestaurantStatus.PAUSED).target(RestaurantStatus.ACTIVE).event(RestaurantEvent.RESUME)
+                .and()
+                .withExternal().source(RestaurantStatus.PENDING).target(RestaurantStatus.CLOSED).event(RestaurantEvent.CLOSE)
+                .and()
+                .withExternal().source(RestaurantStatus.ACTIVE).target(RestaurantStatus.CLOSED).event(RestaurantEvent.CLOSE)
+                .and()
+                .withExternal().source(RestaurantStatus.PAUSED).target(RestaurantStatus.CLOSED).event(RestaurantEvent.CLOSE);
+    }
+}
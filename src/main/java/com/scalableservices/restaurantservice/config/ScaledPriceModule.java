@@ -0,0 +1,63 @@
+package com.scalableservices.restaurantservice.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.scalableservices.restaurantservice.dto.restaurant.MenuItemRequest;
+import com.scalableservices.restaurantservice.dto.restaurant.MenuItemResponse;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static com.scalableservices.restaurantservice.model.RestaurantMenu.PRICE_SCALE;
+
+// Encodes menu item prices as longs in minor units (scale 2, matching item_price DECIMAL(10,2)), e.g. 149.50 -> 14950.
+// Only the itemPrice properties are affected, through mix-ins; other BigDecimal values keep Jackson's default encoding.
+public class ScaledPriceModule extends SimpleModule {
+    public ScaledPriceModule() {
+        super("ScaledPriceModule");
+        setMixInAnnotation(MenuItemRequest.class, ScaledPriceMixin.class);
+        setMixInAnnotation(MenuItemResponse.class, ScaledPriceMixin.class);
+    }
+
+    abstract static class ScaledPriceMixin {
+        @JsonSerialize(using = ScaledPriceSerializer.class)
+        @JsonDeserialize(using = ScaledPriceDeserializer.class)
+        private BigDecimal itemPrice;
+    }
+
+    static class ScaledPriceSerializer extends StdSerializer<BigDecimal> {
+        ScaledPriceSerializer() {
+            super(BigDecimal.class);
+        }
+
+        // Prices are validated to PRICE_SCALE on input, so this never rounds; it fails instead of silently changing a value
+        @Override
+        public void serialize(BigDecimal value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeNumber(value.setScale(PRICE_SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+        }
+    }
+
+    static class ScaledPriceDeserializer extends StdDeserializer<BigDecimal> {
+        ScaledPriceDeserializer() {
+            super(BigDecimal.class);
+        }
+
+        // Only integer minor units are valid; getLongValue() would silently truncate a float such as 149.5
+        @Override
+        public BigDecimal deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.currentToken() != JsonToken.VALUE_NUMBER_INT) {
+                return (BigDecimal) context.handleUnexpectedToken(BigDecimal.class, parser);
+            }
+            return BigDecimal.valueOf(parser.getLongValue(), PRICE_SCALE);
+        }
+    }
+}
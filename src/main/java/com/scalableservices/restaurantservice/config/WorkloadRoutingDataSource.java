@@ -0,0 +1,25 @@
+package com.scalableservices.restaurantservice.config;
+
+import com.scalableservices.restaurantservice.bulkhead.WorkloadContext;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+
+// Hands out connections from the Hikari sub-pool belonging to the calling thread's workload
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return WorkloadContext.current();
+    }
+
+    @Override
+    public void close() {
+        for (DataSource dataSource : getResolvedDataSources().values()) {
+            if (dataSource instanceof HikariDataSource) {
+                ((HikariDataSource) dataSource).close();
+            }
+        }
+    }
+}
@@ -1,111 +1,131 @@
 package com.scalableservices.restaurantservice.controller;
 
+import com.scalableservices.restaurantservice.bulkhead.BulkheadExecutors;
+import com.scalableservices.restaurantservice.bulkhead.Workload;
 import com.scalableservices.restaurantservice.dto.common.ApiResponse;
-import com.scalableservices.restaurantservice.dto.common.ErrorMessage;
 import com.scalableservices.restaurantservice.dto.restaurant.*;
+import com.scalableservices.restaurantservice.exception.ErrorCode;
+import com.scalableservices.restaurantservice.exception.ErrorResponses;
 import com.scalableservices.restaurantservice.exception.ServiceException;
+import com.scalableservices.restaurantservice.model.RestaurantEvent;
 import com.scalableservices.restaurantservice.service.RestaurantService;
+import com.scalableservices.restaurantservice.service.ServiceResult;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/restaurant")
 public class RestaurantController {
 	@Autowired
 	RestaurantService restaurantService;
+	@Autowired
+	BulkheadExecutors bulkheadExecutors;
+	@Autowired
+	ErrorResponses errorResponses;
 
 	// Endpoint to register a new restaurant
 	@PostMapping("/owner/register")
-	public ApiResponse<RestaurantOwnerResponse> registerOwner(@RequestBody RestaurantOwnerRequest ownerRequest) {
-		try {
-			RestaurantOwnerResponse response = restaurantService.registerRestaurantOwner(ownerRequest);
-			return ApiResponse.<RestaurantOwnerResponse>builder().status("success").data(response).build();
-		}catch (ServiceException e) {
-			return ApiResponse.<RestaurantOwnerResponse>builder().status("failed")
-					.error(ErrorMessage.builder().error(e.getMessage()).description(e.getMessage()).build())
-					.build();
-		}
-		catch (Exception e) {
-			return ApiResponse
-					.<RestaurantOwnerResponse>builder().status("failed").error(ErrorMessage.builder()
-							.error("Error while registering restaurant owner").description(e.getMessage()).build())
-					.build();
-		}
+	public CompletableFuture<ResponseEntity<ApiResponse<RestaurantOwnerResponse>>> registerOwner(@RequestBody RestaurantOwnerRequest ownerRequest) {
+		return bulkheadExecutors.submit(Workload.REGISTRATION,
+				() -> toResponse(restaurantService.registerRestaurantOwner(ownerRequest)));
 	}
 
 	@PostMapping("/register")
-	public ApiResponse<RestaurantResponse> registerRestaurant(@RequestBody RestaurantRequest ownerRequest, @RequestHeader(value = "X-UserType", required = true) String userType) {
-		try {
-			if(!userType.equalsIgnoreCase("restaurant_owner")) {
-				throw new ServiceException(HttpStatus.UNAUTHORIZED, "Only restaurant owners are allowed to register restaurants");
-			}
-			RestaurantResponse response = restaurantService.registerRestaurant(ownerRequest);
-			return ApiResponse.<RestaurantResponse>builder().status("success").data(response).build();
-		} catch (Exception e) {
-			return ApiResponse
-					.<RestaurantResponse>builder().error(ErrorMessage.builder()
-							.error("Error while registering restaurant owner").description(e.getMessage()).build())
-					.build();
+	public CompletableFuture<ResponseEntity<ApiResponse<RestaurantResponse>>> registerRestaurant(@RequestBody RestaurantRequest ownerRequest, @RequestHeader(value = "X-UserType", required = true) String userType) {
+		if(!isRestaurantOwner(userType)) {
+			throw new ServiceException(ErrorCode.OWNER_ONLY);
 		}
+		return bulkheadExecutors.submit(Workload.REGISTRATION,
+				() -> toResponse(restaurantService.registerRestaurant(ownerRequest)));
 	}
 
 	// Endpoint to add menu items to an existing restaurant
 	@PostMapping("/{restaurantId}/menu")
-	public ApiResponse<List<MenuItemResponse>> addMenuToRestaurant(@PathVariable Long restaurantId,
+	public CompletableFuture<ResponseEntity<ApiResponse<List<MenuItemResponse>>>> addMenuToRestaurant(@PathVariable Long restaurantId,
 																   @RequestBody List<MenuItemRequest> menuItems
 			, @RequestHeader(value = "X-UserType", required = true) String userType) {
-		try {
-			if(!userType.equalsIgnoreCase("restaurant_owner")) {
-				throw new ServiceException(HttpStatus.UNAUTHORIZED, "Only restaurant owners are allowed to add menu items");
-			}
-			List<MenuItemResponse> response = restaurantService.addMenuToRestaurant(restaurantId, menuItems);
-			return ApiResponse.<List<MenuItemResponse>>builder().status("success").data(response).build();
-		}catch (ServiceException e) {
-			return ApiResponse.<List<MenuItemResponse>>builder().status("failed")
-					.error(ErrorMessage.builder().error("Menu item addition failed").description(e.getMessage()).build())
-					.build();
-		}
-		catch (Exception e) {
-			return ApiResponse.<List<MenuItemResponse>>builder().status("failed")
-					.error(ErrorMessage.builder().error("Menu item addition failed").description(e.getMessage()).build())
-					.build();
+		if(!isRestaurantOwner(userType)) {
+			throw new ServiceException(ErrorCode.OWNER_ONLY);
 		}
+		return bulkheadExecutors.submit(Workload.MENU_WRITE,
+				() -> toResponse(restaurantService.addMenuToRestaurant(restaurantId, menuItems)));
+	}
+
+	@GetMapping("/{restaurantId}")
+	public CompletableFuture<ResponseEntity<ApiResponse<RestaurantResponse>>> getRestaurant(@PathVariable Long restaurantId) {
+		// Lookups are coalesced without holding a READ thread each, so the pool size does not cap the batch size
+		return bulkheadExecutors.submitAsync(Workload.READ,
+				() -> restaurantService.getRestaurant(restaurantId).thenApply(this::toResponse));
+	}
+
+	// Endpoint for order/cart services to resolve many restaurants and menu items in one call
+	@PostMapping("/batch")
+	public CompletableFuture<ResponseEntity<ApiResponse<RestaurantBatchResponse>>> getRestaurantBatch(@RequestBody RestaurantBatchRequest batchRequest) {
+		return bulkheadExecutors.submit(Workload.READ,
+				() -> toResponse(restaurantService.getRestaurantBatch(batchRequest)));
 	}
 
 	@PutMapping("/{restaurantId}/update-restaurant")
-	public ApiResponse<RestaurantResponse> updateRestaurant(@PathVariable Long restaurantId,
+	public CompletableFuture<ResponseEntity<ApiResponse<RestaurantResponse>>> updateRestaurant(@PathVariable Long restaurantId,
 															@RequestBody RestaurantRequest updatedRestaurant
 			, @RequestHeader(value = "X-UserType", required = true) String userType) {
-		try {
-			if(!userType.equalsIgnoreCase("restaurant_owner")) {
-				throw new ServiceException(HttpStatus.UNAUTHORIZED, "Only restaurant owners are allowed to update restaurants");
-			}
-			RestaurantResponse response = restaurantService.updateRestaurant(restaurantId, updatedRestaurant);
-			return ApiResponse.<RestaurantResponse>builder().status("success").data(response).build();
-		} catch (Exception e) {
-			return ApiResponse.<RestaurantResponse>builder()
-					.error(ErrorMessage.builder().error("Restaurant update failed").description(e.getMessage()).build())
-					.build();
+		if(!isRestaurantOwner(userType)) {
+			throw new ServiceException(ErrorCode.OWNER_ONLY);
+		}
+		return bulkheadExecutors.submit(Workload.REGISTRATION,
+				() -> toResponse(restaurantService.updateRestaurant(restaurantId, updatedRestaurant)));
+	}
+
+	// Endpoint to move a restaurant through its lifecycle (ACTIVATE, PAUSE, RESUME, CLOSE)
+	@PostMapping("/{restaurantId}/lifecycle/{event}")
+	public CompletableFuture<ResponseEntity<ApiResponse<RestaurantResponse>>> changeRestaurantStatus(@PathVariable Long restaurantId,
+			@PathVariable RestaurantEvent event
+			, @RequestHeader(value = "X-UserType", required = true) String userType) {
+		if(!isRestaurantOwner(userType)) {
+			throw new ServiceException(ErrorCode.OWNER_ONLY);
+		}
+		return bulkheadExecutors.submit(Workload.REGISTRATION,
+				() -> toResponse(restaurantService.changeRestaurantStatus(restaurantId, event)));
+	}
+
+	// Endpoint to apply a lifecycle event to all restaurants of an owner at once, e.g. pausing them all
+	@PostMapping("/owner/{ownerId}/lifecycle/{event}")
+	public CompletableFuture<ResponseEntity<ApiResponse<RestaurantLifecycleBatchResponse>>> changeOwnerRestaurantsStatus(@PathVariable Long ownerId,
+			@PathVariable RestaurantEvent event
+			, @RequestHeader(value = "X-UserType", required = true) String userType) {
+		if(!isRestaurantOwner(userType)) {
+			throw new ServiceException(ErrorCode.OWNER_ONLY);
 		}
+		return bulkheadExecutors.submit(Workload.REGISTRATION,
+				() -> toResponse(restaurantService.changeOwnerRestaurantsStatus(ownerId, event)));
 	}
 
 	@PutMapping("/menu/{itemId}")
-	public ApiResponse<MenuItemResponse> updateMenuItem(@PathVariable Long itemId,
+	public CompletableFuture<ResponseEntity<ApiResponse<MenuItemResponse>>> updateMenuItem(@PathVariable Long itemId,
 			@RequestBody MenuItemRequest restaurantMenu
 			, @RequestHeader(value = "X-UserType", required = true) String userType) {
-		try {
-			if(!userType.equalsIgnoreCase("restaurant_owner")) {
-				throw new ServiceException(HttpStatus.UNAUTHORIZED, "Only restaurant owners are allowed to update menu items");
-			}
-			MenuItemResponse response = restaurantService.updateMenuItem(itemId, restaurantMenu);
-			return ApiResponse.<MenuItemResponse>builder().status("success").data(response).build();
-		} catch (Exception e) {
-			return ApiResponse.<MenuItemResponse>builder()
-					.error(ErrorMessage.builder().error("Menu item update failed").description(e.getMessage()).build())
-					.build();
+		if(!isRestaurantOwner(userType)) {
+			throw new ServiceException(ErrorCode.OWNER_ONLY);
+		}
+		return bulkheadExecutors.submit(Workload.MENU_WRITE,
+				() -> toResponse(restaurantService.updateMenuItem(itemId, restaurantMenu)));
+	}
+
+	// Callers reject synchronously with a stackless ServiceException: returning an already completed future would
+	// still start async processing and dispatch the request a second time
+	private boolean isRestaurantOwner(String userType) {
+		return userType.equalsIgnoreCase("restaurant_owner");
+	}
+
+	// Rejections reuse the cached, pre-serialized body for their error code
+	private <T> ResponseEntity<ApiResponse<T>> toResponse(ServiceResult<T> result) {
+		if (!result.isOk()) {
+			return errorResponses.of(result.getErrorCode());
 		}
+		return ResponseEntity.ok(ApiResponse.<T>builder().status("success").data(result.getValue()).build());
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,17 @@
+package com.scalableservices.restaurantservice.dto.restaurant;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RestaurantBatchRequest {
+	private List<Long> restaurantIds;
+	private List<Long> menuItemIds;
+}
@@ -0,0 +1,20 @@
+package com.scalableservices.restaurantservice.dto.restaurant;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RestaurantBatchResponse {
+	private List<RestaurantResponse> restaurants;
+	private List<MenuItemResponse> menuItems;
+	// Requested ids that do not exist
+	private List<Long> missingRestaurantIds;
+	private List<Long> missingMenuItemIds;
+}
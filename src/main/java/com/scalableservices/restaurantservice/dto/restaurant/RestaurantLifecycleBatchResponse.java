@@ -0,0 +1,19 @@
+package com.scalableservices.restaurantservice.dto.restaurant;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RestaurantLifecycleBatchResponse {
+	private Long ownerId;
+	private String event;
+	// Restaurants moved to a new status
+	private long updated;
+	// Restaurants whose current status does not accept the event
+	private long skipped;
+}
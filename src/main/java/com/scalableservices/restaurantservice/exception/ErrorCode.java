@@ -0,0 +1,44 @@
+package com.scalableservices.restaurantservice.exception;
+
+import org.springframework.http.HttpStatus;
+
+public enum ErrorCode {
+    OWNER_ONLY(HttpStatus.UNAUTHORIZED, "Unauthorized", "Only restaurant owners are allowed to perform this operation"),
+    DUPLICATE_RESTAURANT_CONTACT_NO(HttpStatus.BAD_REQUEST, "Duplicate contact number", "Restaurant with this contact number already exists"),
+    DUPLICATE_OWNER_MOBILE_NUMBER(HttpStatus.BAD_REQUEST, "Duplicate mobile number", "Restaurant owner with this mobile number already exists"),
+    RESTAURANT_NOT_FOUND(HttpStatus.NOT_FOUND, "Restaurant not found", "Restaurant with the given ID not found"),
+    RESTAURANT_OWNER_NOT_FOUND(HttpStatus.NOT_FOUND, "Restaurant owner not found", "Restaurant owner with the given ID not found"),
+    MENU_ITEM_NOT_FOUND(HttpStatus.NOT_FOUND, "Menu item not found", "Menu item with the given ID not found"),
+    INVALID_STATUS_TRANSITION(HttpStatus.CONFLICT, "Invalid status transition", "Restaurant's current status does not allow this operation"),
+    STATUS_UPDATE_CONFLICT(HttpStatus.CONFLICT, "Status update conflict", "Restaurant status was changed concurrently, please retry"),
+    INVALID_PRICE(HttpStatus.BAD_REQUEST, "Invalid price", "Item price must have at most 2 decimal places"),
+    BATCH_TOO_LARGE(HttpStatus.BAD_REQUEST, "Batch too large", "Too many ids requested in a single batch"),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "Too many requests", "Too many requests, please retry later"),
+    OVERLOADED(HttpStatus.TOO_MANY_REQUESTS, "Too many requests", "Service is overloaded, please retry later"),
+    SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "Service busy", "Service is busy, please retry later"),
+    REQUEST_TIMED_OUT(HttpStatus.SERVICE_UNAVAILABLE, "Request timed out", "Request timed out, please retry later"),
+    WRITE_OUTCOME_UNKNOWN(HttpStatus.GATEWAY_TIMEOUT, "Write outcome unknown", "Request timed out while being applied and may still complete, check before retrying"),
+    INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "Internal error", "An unexpected error occurred");
+
+    private final HttpStatus status;
+    private final String error;
+    private final String description;
+
+    ErrorCode(HttpStatus status, String error, String description) {
+        this.status = status;
+        this.error = error;
+        this.description = description;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
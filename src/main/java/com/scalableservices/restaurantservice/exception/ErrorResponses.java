@@ -0,0 +1,48 @@
+package com.scalableservices.restaurantservice.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scalableservices.restaurantservice.dto.common.ApiResponse;
+import com.scalableservices.restaurantservice.dto.common.ErrorMessage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.EnumMap;
+import java.util.Map;
+
+// Error bodies are serialized once per error code at startup and reused for every rejection
+@Component
+public class ErrorResponses {
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final Map<ErrorCode, byte[]> bodies = new EnumMap<>(ErrorCode.class);
+    private final Map<ErrorCode, ResponseEntity<byte[]>> responses = new EnumMap<>(ErrorCode.class);
+
+    @PostConstruct
+    public void init() throws JsonProcessingException {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            byte[] body = objectMapper.writeValueAsBytes(ApiResponse.builder().status("failed")
+                    .error(ErrorMessage.builder().error(errorCode.getError()).description(errorCode.getDescription()).build())
+                    .build());
+            bodies.put(errorCode, body);
+            responses.put(errorCode, new ResponseEntity<>(body, headers, errorCode.getStatus()));
+        }
+    }
+
+    public byte[] body(ErrorCode errorCode) {
+        return bodies.get(errorCode);
+    }
+
+    // The pre-serialized bytes are written as-is by the byte array converter, whatever the declared body type
+    @SuppressWarnings("unchecked")
+    public <T> ResponseEntity<T> of(ErrorCode errorCode) {
+        return (ResponseEntity<T>) (ResponseEntity<?>) responses.get(errorCode);
+    }
+}
@@ -3,8 +3,26 @@ package com.scalableservices.restaurantservice.exception;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
+// Thrown for expected outcomes only, so the stack trace is never captured
 public class ServiceException extends ResponseStatusException {
+    private final ErrorCode errorCode;
+
+    public ServiceException(ErrorCode errorCode) {
+        super(errorCode.getStatus(), errorCode.getDescription());
+        this.errorCode = errorCode;
+    }
+
     public ServiceException(HttpStatus status, String reason) {
         super(status, reason);
+        this.errorCode = null;
+    }
+
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
     }
 }
@@ -0,0 +1,24 @@
+package com.scalableservices.restaurantservice.exception;
+
+import com.scalableservices.restaurantservice.dto.common.ApiResponse;
+import com.scalableservices.restaurantservice.dto.common.ErrorMessage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+@ControllerAdvice
+public class ServiceExceptionHandler {
+    @Autowired
+    private ErrorResponses errorResponses;
+
+    @ExceptionHandler(ServiceException.class)
+    public ResponseEntity<?> handleServiceException(ServiceException ex) {
+        if (ex.getErrorCode() != null) {
+            return errorResponses.of(ex.getErrorCode());
+        }
+        return ResponseEntity.status(ex.getStatus()).body(ApiResponse.builder().status("failed")
+                .error(ErrorMessage.builder().error(ex.getStatus().getReasonPhrase()).description(ex.getReason()).build())
+                .build());
+    }
+}
@@ -43,6 +43,11 @@ public class Restaurant {
     @Column(name = "take_away",nullable = false)
     private Boolean takeAway = false;
 
+    // Only the compare-and-set updates in RestaurantRepository change status, so a stale entity save cannot undo a transition
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20, updatable = false)
+    private RestaurantStatus status = RestaurantStatus.PENDING;
+
     @ManyToOne
     @JoinColumn(name = "owner_id", nullable = false, foreignKey = @ForeignKey(name = "fk_restaurants_owner_id"))
     private RestaurantOwner owner;
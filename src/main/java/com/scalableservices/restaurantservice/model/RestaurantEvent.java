@@ -0,0 +1,8 @@
+package com.scalableservices.restaurantservice.model;
+
+public enum RestaurantEvent {
+    ACTIVATE,
+    PAUSE,
+    RESUME,
+    CLOSE
+}
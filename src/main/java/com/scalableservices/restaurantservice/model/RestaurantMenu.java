@@ -16,6 +16,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "restaurant_menus")
 public class RestaurantMenu {
+	// Prices are stored with exactly this many decimal places; finer input is rejected rather than rounded
+	public static final int PRICE_SCALE = 2;
 
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -31,7 +33,7 @@ public class RestaurantMenu {
 	@Column(name = "item_description", nullable = false, length = 255)
 	private String itemDescription;
 
-	@Column(name = "item_price", nullable = false, precision = 10, scale = 2)
+	@Column(name = "item_price", nullable = false, precision = 10, scale = PRICE_SCALE)
 	private BigDecimal itemPrice;
 
 	@Column(name = "is_available", nullable = false)
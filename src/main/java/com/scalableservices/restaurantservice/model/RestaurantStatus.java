@@ -0,0 +1,8 @@
+package com.scalableservices.restaurantservice.model;
+
+public enum RestaurantStatus {
+    PENDING,
+    ACTIVE,
+    PAUSED,
+    CLOSED
+}
@@ -0,0 +1,130 @@
+package com.scalableservices.restaurantservice.ratelimit;
+
+import com.scalableservices.restaurantservice.bulkhead.Workload;
+import com.scalableservices.restaurantservice.config.RateLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// AIMD limit on in-flight requests per workload, each driven by how long its own Hikari sub-pool makes callers wait,
+// so contention on one workload's connections never sheds another workload's requests
+@Component
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+    private static final String POOL_ACQUIRE_TIMER = "hikaricp.connections.acquire";
+
+    @Autowired
+    private RateLimitProperties properties;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<Workload, WorkloadLimit> limits = new EnumMap<>(Workload.class);
+
+    @PostConstruct
+    public void init() {
+        for (Workload workload : Workload.values()) {
+            WorkloadLimit workloadLimit = new WorkloadLimit(properties.getConcurrency().getInitialLimit());
+            limits.put(workload, workloadLimit);
+            Tags tags = Tags.of("workload", workload.getName());
+            meterRegistry.gauge("restaurant.requests.concurrency.limit", tags, workloadLimit.limit);
+            meterRegistry.gauge("restaurant.requests.in_flight", tags, workloadLimit.inFlight);
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled() && properties.getConcurrency().isEnabled();
+    }
+
+    public boolean tryAcquire(Workload workload) {
+        WorkloadLimit workloadLimit = limits.get(workload);
+        while (true) {
+            int current = workloadLimit.inFlight.get();
+            if (current >= workloadLimit.limit.get()) {
+                return false;
+            }
+            if (workloadLimit.inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(Workload workload) {
+        limits.get(workload).inFlight.decrementAndGet();
+    }
+
+    @Scheduled(fixedDelayString = "${restaurant.rate-limit.concurrency.sample-interval-millis:1000}")
+    public void adjustLimit() {
+        for (Workload workload : Workload.values()) {
+            adjustLimit(workload, limits.get(workload));
+        }
+    }
+
+    private void adjustLimit(Workload workload, WorkloadLimit workloadLimit) {
+        // Sub-pools are named <base pool name>-<workload>, see FdsDatabaseConfig
+        String poolSuffix = "-" + workload.getName();
+        long count = 0;
+        double totalMillis = 0;
+        for (Timer acquireTimer : meterRegistry.find(POOL_ACQUIRE_TIMER).timers()) {
+            String pool = acquireTimer.getId().getTag("pool");
+            if (pool != null && pool.endsWith(poolSuffix)) {
+                count += acquireTimer.count();
+                totalMillis += acquireTimer.totalTime(TimeUnit.MILLISECONDS);
+            }
+        }
+        long samples = count - workloadLimit.lastAcquireCount;
+        double waitedMillis = totalMillis - workloadLimit.lastAcquireTotalMillis;
+        workloadLimit.lastAcquireCount = count;
+        workloadLimit.lastAcquireTotalMillis = totalMillis;
+        if (samples <= 0) {
+            return;
+        }
+
+        RateLimitProperties.Concurrency config = properties.getConcurrency();
+        double meanWaitMillis = waitedMillis / samples;
+        int current = workloadLimit.limit.get();
+        int next;
+        if (meanWaitMillis > config.getTargetPoolWaitMillis()) {
+            next = Math.max(config.getMinLimit(), (int) (current * config.getBackoffRatio()));
+        } else if (workloadLimit.inFlight.get() >= current) {
+            // Only probe upwards while the current limit is actually being used
+            next = Math.min(config.getMaxLimit(), current + 1);
+        } else {
+            next = current;
+        }
+        if (next != current) {
+            workloadLimit.limit.set(next);
+            log.info("Concurrency limit of {} changed from {} to {} (mean pool wait {} ms)",
+                    workload.getName(), current, next, meanWaitMillis);
+        }
+    }
+
+    public int getLimit(Workload workload) {
+        return limits.get(workload).limit.get();
+    }
+
+    public int getInFlight(Workload workload) {
+        return limits.get(workload).inFlight.get();
+    }
+
+    private static final class WorkloadLimit {
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger limit;
+        // Only touched by the scheduler thread
+        private long lastAcquireCount;
+        private double lastAcquireTotalMillis;
+
+        private WorkloadLimit(int initialLimit) {
+            this.limit = new AtomicInteger(initialLimit);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.scalableservices.restaurantservice.ratelimit;
+
+import com.scalableservices.restaurantservice.config.RateLimitProperties;
+import com.scalableservices.restaurantservice.exception.ErrorCode;
+import com.scalableservices.restaurantservice.exception.ErrorResponses;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+    @Autowired
+    private RateLimitProperties properties;
+    @Autowired
+    private TokenBucketRateLimiter rateLimiter;
+    @Autowired
+    private RequestMetrics requestMetrics;
+    @Autowired
+    private ErrorResponses errorResponses;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        // Async handlers are re-dispatched once their result is ready; the token was taken on the first dispatch
+        if (!(handler instanceof HandlerMethod) || request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        String endpoint = ((HandlerMethod) handler).getMethod().getName();
+        request.setAttribute(RequestMetrics.ENDPOINT_ATTRIBUTE, endpoint);
+
+        if (properties.isEnabled() && !rateLimiter.tryAcquire(endpoint, rateLimitKey(request, endpoint), properties.limitFor(endpoint))) {
+            return reject(response, endpoint, "rate_limit", ErrorCode.TOO_MANY_REQUESTS);
+        }
+        return true;
+    }
+
+    // Keyed only on values the caller cannot vary freely: the endpoint, whether the caller claims to be an owner,
+    // and the caller's address (or the trusted client id header set by the gateway in front of the service)
+    private String rateLimitKey(HttpServletRequest request, String endpoint) {
+        String userType = "restaurant_owner".equalsIgnoreCase(request.getHeader("X-UserType")) ? "owner" : "other";
+        String caller = null;
+        if (StringUtils.hasText(properties.getClientIdHeader())) {
+            caller = request.getHeader(properties.getClientIdHeader());
+        }
+        if (!StringUtils.hasText(caller)) {
+            caller = request.getRemoteAddr();
+        }
+        return endpoint + '|' + userType + '|' + caller;
+    }
+
+    private boolean reject(HttpServletResponse response, String endpoint, String reason, ErrorCode errorCode) throws IOException {
+        requestMetrics.shed(endpoint, null, reason);
+        byte[] body = errorResponses.body(errorCode);
+        response.setStatus(errorCode.getStatus().value());
+        response.setHeader("Retry-After", "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+        return false;
+    }
+}
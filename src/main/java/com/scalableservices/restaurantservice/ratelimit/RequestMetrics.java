@@ -0,0 +1,42 @@
+package com.scalableservices.restaurantservice.ratelimit;
+
+import com.scalableservices.restaurantservice.bulkhead.Workload;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+// Admission counters with one tag schema (endpoint, workload[, reason]) whichever stage admits or sheds the request
+@Component
+public class RequestMetrics {
+    // Set by RateLimitInterceptor so later stages on the request thread can tag by endpoint
+    static final String ENDPOINT_ATTRIBUTE = RequestMetrics.class.getName() + ".endpoint";
+    // Workload tag for requests shed before a bulkhead was chosen
+    private static final String NO_WORKLOAD = "none";
+    private static final String UNKNOWN_ENDPOINT = "unknown";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Counted once the bulkhead has accepted the request, so shed requests are never also counted as admitted
+    public void admitted(Workload workload) {
+        meterRegistry.counter("restaurant.requests.admitted", "endpoint", currentEndpoint(), "workload", workload.getName())
+                .increment();
+    }
+
+    public void shed(Workload workload, String reason) {
+        shed(currentEndpoint(), workload, reason);
+    }
+
+    void shed(String endpoint, Workload workload, String reason) {
+        meterRegistry.counter("restaurant.requests.shed", "endpoint", endpoint,
+                "workload", workload == null ? NO_WORKLOAD : workload.getName(), "reason", reason).increment();
+    }
+
+    private static String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Object endpoint = attributes == null ? null : attributes.getAttribute(ENDPOINT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return endpoint == null ? UNKNOWN_ENDPOINT : (String) endpoint;
+    }
+}
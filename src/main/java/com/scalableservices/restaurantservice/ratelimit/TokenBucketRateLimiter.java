@@ -0,0 +1,83 @@
+package com.scalableservices.restaurantservice.ratelimit;
+
+import com.scalableservices.restaurantservice.config.RateLimitProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Component
+@Slf4j
+public class TokenBucketRateLimiter {
+    @Autowired
+    private RateLimitProperties properties;
+
+    private final ConcurrentMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    // Once maxKeys is reached, callers without a bucket of their own share one per endpoint until the next sweep
+    private final ConcurrentMap<String, Bucket> overflowBuckets = new ConcurrentHashMap<>();
+
+    public boolean tryAcquire(String endpoint, String key, RateLimitProperties.BucketLimit limit) {
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            // Concurrent first requests can overshoot the cap by at most the number of request threads
+            bucket = buckets.size() < properties.getMaxKeys()
+                    ? buckets.computeIfAbsent(key, k -> new Bucket(limit.getCapacity()))
+                    : overflowBuckets.computeIfAbsent(endpoint, k -> new Bucket(limit.getCapacity()));
+        }
+        return bucket.tryAcquire(limit, System.nanoTime());
+    }
+
+    // Only ever runs on the scheduler thread, never on a request
+    @Scheduled(fixedDelayString = "${restaurant.rate-limit.idle-eviction-millis:300000}")
+    public void evictIdleBuckets() {
+        long cutoff = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(properties.getIdleEvictionMillis());
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.lastAccessNanos < cutoff);
+        log.debug("Evicted {} idle rate limit buckets", before - buckets.size());
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    // Bucket state is swapped atomically so concurrent requests for the same key never block each other
+    static final class Bucket {
+        private final AtomicReference<State> state;
+        private volatile long lastAccessNanos;
+
+        Bucket(long capacity) {
+            this.lastAccessNanos = System.nanoTime();
+            this.state = new AtomicReference<>(new State(capacity, lastAccessNanos));
+        }
+
+        boolean tryAcquire(RateLimitProperties.BucketLimit limit, long now) {
+            lastAccessNanos = now;
+            while (true) {
+                State current = state.get();
+                double elapsedSeconds = Math.max(0, now - current.refilledAt) / 1_000_000_000d;
+                double tokens = Math.min(limit.getCapacity(), current.tokens + elapsedSeconds * limit.getRefillPerSecond());
+                if (tokens < 1) {
+                    return false;
+                }
+                if (state.compareAndSet(current, new State(tokens - 1, Math.max(now, current.refilledAt)))) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    private static final class State {
+        private final double tokens;
+        private final long refilledAt;
+
+        private State(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+    }
+}
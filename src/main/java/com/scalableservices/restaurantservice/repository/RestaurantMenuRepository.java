@@ -2,8 +2,11 @@ package com.scalableservices.restaurantservice.repository;
 
 import com.scalableservices.restaurantservice.model.RestaurantMenu;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -18,4 +21,8 @@ public interface RestaurantMenuRepository extends JpaRepository<RestaurantMenu,
     // Find menu item by name for a specific restaurant
     RestaurantMenu findByRestaurantIdAndItemName(Long restaurantId, String itemName);
     List<RestaurantMenu> findByItemName(String name);
+
+    // Loads many menu items in a single round trip, fetching their restaurant and owner eagerly to avoid N+1 selects
+    @Query("select m from RestaurantMenu m join fetch m.restaurant r join fetch r.owner where m.id in :ids")
+    List<RestaurantMenu> findAllWithRestaurantByIdIn(@Param("ids") Collection<Long> ids);
 }
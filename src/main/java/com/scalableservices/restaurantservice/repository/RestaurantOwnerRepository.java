@@ -2,8 +2,10 @@ package com.scalableservices.restaurantservice.repository;
 
 import com.scalableservices.restaurantservice.model.RestaurantOwner;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +15,8 @@ public interface RestaurantOwnerRepository extends JpaRepository<RestaurantOwner
 
     // Custom method to find a restaurant owner by their mobile number, if needed for other validations
     RestaurantOwner findByMobileNumber(String mobileNumber);
+
+    // Used to warm the in-memory mobile number filter
+    @Query("select o.mobileNumber from RestaurantOwner o")
+    List<String> findAllMobileNumbers();
 }
\ No newline at end of file
@@ -1,9 +1,17 @@
 package com.scalableservices.restaurantservice.repository;
 
 import com.scalableservices.restaurantservice.model.Restaurant;
+import com.scalableservices.restaurantservice.model.RestaurantStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +19,34 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
     Optional<Restaurant> findById(Long id);
     Restaurant findByContactNo(String contactNo);
     Restaurant findByContactNoAndIdNot(String contactNo, Long restaurantId);
+
+    // Used to warm the in-memory contact number filter
+    @Query("select r.contactNo from Restaurant r")
+    List<String> findAllContactNos();
+
+    // Loads many restaurants with their owners in a single round trip
+    @Query("select r from Restaurant r join fetch r.owner where r.id in :ids")
+    List<Restaurant> findAllWithOwnerByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Restaurant count per status for one owner, so batch transitions only resolve each source status once
+    @Query("select r.status as status, count(r) as total from Restaurant r where r.owner.id = :ownerId group by r.status")
+    List<StatusCount> countByOwnerIdGroupByStatus(@Param("ownerId") Long ownerId);
+
+    // Compare-and-set on status so concurrent transitions on the same restaurant cannot both win
+    @Transactional
+    @Modifying
+    @Query("update Restaurant r set r.status = :to, r.updatedAt = :updatedAt where r.id = :id and r.status = :from")
+    int updateStatus(@Param("id") Long id, @Param("from") RestaurantStatus from, @Param("to") RestaurantStatus to,
+                     @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Transactional
+    @Modifying
+    @Query("update Restaurant r set r.status = :to, r.updatedAt = :updatedAt where r.owner.id = :ownerId and r.status = :from")
+    int updateStatusByOwnerId(@Param("ownerId") Long ownerId, @Param("from") RestaurantStatus from,
+                              @Param("to") RestaurantStatus to, @Param("updatedAt") LocalDateTime updatedAt);
+
+    interface StatusCount {
+        RestaurantStatus getStatus();
+        long getTotal();
+    }
 }
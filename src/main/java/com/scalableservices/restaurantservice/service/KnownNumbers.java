@@ -0,0 +1,73 @@
+package com.scalableservices.restaurantservice.service;
+
+import com.scalableservices.restaurantservice.repository.RestaurantOwnerRepository;
+import com.scalableservices.restaurantservice.repository.RestaurantRepository;
+import com.scalableservices.restaurantservice.util.NumberBloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+
+// In-memory pre-check for contact/mobile number uniqueness. A negative answer means the number has never been stored,
+// so the DB lookup can be skipped; the unique indexes still guard against numbers inserted by other instances.
+@Component
+@Slf4j
+public class KnownNumbers {
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+    @Autowired
+    private RestaurantOwnerRepository restaurantOwnerRepository;
+
+    @Value("${restaurant.known-numbers.expected-insertions:1000000}")
+    private long expectedInsertions;
+    @Value("${restaurant.known-numbers.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private NumberBloomFilter restaurantContactNos;
+    private NumberBloomFilter ownerMobileNumbers;
+    // Until warm-up finishes every number is treated as possibly known
+    private volatile boolean warmedUp;
+
+    @PostConstruct
+    public void init() {
+        restaurantContactNos = new NumberBloomFilter(expectedInsertions, falsePositiveRate);
+        ownerMobileNumbers = new NumberBloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            long start = System.currentTimeMillis();
+            restaurantRepository.findAllContactNos().forEach(restaurantContactNos::put);
+            restaurantOwnerRepository.findAllMobileNumbers().forEach(ownerMobileNumbers::put);
+            warmedUp = true;
+            log.info("Known number filters warmed up in {} ms", System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("Failed to warm up known number filters, uniqueness checks will always hit the DB: {}", e.getMessage());
+        }
+    }
+
+    public boolean mightHaveRestaurantContactNo(String contactNo) {
+        return contactNo == null || !warmedUp || restaurantContactNos.mightContain(contactNo);
+    }
+
+    public boolean mightHaveOwnerMobileNumber(String mobileNumber) {
+        return mobileNumber == null || !warmedUp || ownerMobileNumbers.mightContain(mobileNumber);
+    }
+
+    public void addRestaurantContactNo(String contactNo) {
+        if (contactNo != null) {
+            restaurantContactNos.put(contactNo);
+        }
+    }
+
+    public void addOwnerMobileNumber(String mobileNumber) {
+        if (mobileNumber != null) {
+            ownerMobileNumbers.put(mobileNumber);
+        }
+    }
+}
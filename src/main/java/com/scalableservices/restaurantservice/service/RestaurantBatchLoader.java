@@ -0,0 +1,122 @@
+package com.scalableservices.restaurantservice.service;
+
+import com.scalableservices.restaurantservice.model.Restaurant;
+import com.scalableservices.restaurantservice.repository.RestaurantRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Coalesces single-id restaurant lookups arriving within a short window into one IN query
+@Component
+@Slf4j
+public class RestaurantBatchLoader {
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${restaurant.batch-loader.window-millis:2}")
+    private long windowMillis;
+    @Value("${restaurant.batch-loader.max-batch-size:100}")
+    private int maxBatchSize;
+    @Value("${restaurant.batch-loader.threads:2}")
+    private int threads;
+
+    private final ConcurrentLinkedQueue<PendingLoad> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private ScheduledThreadPoolExecutor scheduler;
+    private DistributionSummary batchSizes;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadCount = new AtomicInteger();
+        scheduler = new ScheduledThreadPoolExecutor(threads, runnable -> {
+            Thread thread = new Thread(runnable, "restaurant-batch-loader-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        batchSizes = DistributionSummary.builder("restaurant.batch-loader.batch.size").register(meterRegistry);
+    }
+
+    public CompletableFuture<Restaurant> load(Long restaurantId) {
+        if (restaurantId == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Restaurant> result = new CompletableFuture<>();
+        pending.add(new PendingLoad(restaurantId, result));
+        if (pendingCount.incrementAndGet() >= maxBatchSize) {
+            scheduler.execute(this::flush);
+        } else if (flushScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+        }
+        return result;
+    }
+
+    private void flush() {
+        flushScheduled.set(false);
+        List<PendingLoad> batch = new ArrayList<>();
+        PendingLoad load;
+        while (batch.size() < maxBatchSize && (load = pending.poll()) != null) {
+            batch.add(load);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        pendingCount.addAndGet(-batch.size());
+        // Anything left over (or added while we drained) gets its own window
+        if (pendingCount.get() > 0 && flushScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+        }
+
+        Map<Long, List<CompletableFuture<Restaurant>>> waiters = new HashMap<>();
+        for (PendingLoad pendingLoad : batch) {
+            waiters.computeIfAbsent(pendingLoad.restaurantId, id -> new ArrayList<>()).add(pendingLoad.result);
+        }
+        batchSizes.record(waiters.size());
+        try {
+            for (Restaurant restaurant : restaurantRepository.findAllWithOwnerByIdIn(waiters.keySet())) {
+                List<CompletableFuture<Restaurant>> futures = waiters.remove(restaurant.getId());
+                if (futures != null) {
+                    futures.forEach(future -> future.complete(restaurant));
+                }
+            }
+            // Ids with no matching row resolve to null, like findById(..).orElse(null)
+            waiters.values().forEach(futures -> futures.forEach(future -> future.complete(null)));
+        } catch (Exception e) {
+            log.error("Error while loading batch of {} restaurants: {}", waiters.size(), e.getMessage());
+            waiters.values().forEach(futures -> futures.forEach(future -> future.completeExceptionally(e)));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private static final class PendingLoad {
+        private final Long restaurantId;
+        private final CompletableFuture<Restaurant> result;
+
+        private PendingLoad(Long restaurantId, CompletableFuture<Restaurant> result) {
+            this.restaurantId = restaurantId;
+            this.result = result;
+        }
+    }
+}
@@ -2,21 +2,34 @@ package com.scalableservices.restaurantservice.service;
 
 
 import com.scalableservices.restaurantservice.dto.restaurant.*;
+import com.scalableservices.restaurantservice.exception.ErrorCode;
 import com.scalableservices.restaurantservice.exception.ServiceException;
 import com.scalableservices.restaurantservice.model.Restaurant;
 import com.scalableservices.restaurantservice.model.RestaurantMenu;
+import com.scalableservices.restaurantservice.model.RestaurantEvent;
 import com.scalableservices.restaurantservice.model.RestaurantOwner;
+import com.scalableservices.restaurantservice.model.RestaurantStatus;
 import com.scalableservices.restaurantservice.repository.RestaurantMenuRepository;
 import com.scalableservices.restaurantservice.repository.RestaurantOwnerRepository;
 import com.scalableservices.restaurantservice.repository.RestaurantRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,91 +41,160 @@ public class RestaurantService {
 	private RestaurantOwnerRepository restaurantOwnerRepository;
 	@Autowired
 	private RestaurantMenuRepository restaurantMenuRepository;
+	@Autowired
+	private KnownNumbers knownNumbers;
+	@Autowired
+	private RestaurantBatchLoader restaurantBatchLoader;
+	@Autowired
+	private RestaurantTransitionTable restaurantTransitionTable;
+
+	@Value("${restaurant.batch.max-ids:500}")
+	private int maxBatchIds;
 
 
-	public Restaurant getRestaurantById(Long restaurantId) {
-		// Fetch restaurant details from database
-		return restaurantRepository.findById(restaurantId).orElse(null);
+	// Does not block: completes when the batch loader's query for the merged window of lookups returns
+	public CompletableFuture<ServiceResult<RestaurantResponse>> getRestaurant(Long restaurantId) {
+		return restaurantBatchLoader.load(restaurantId).handle((restaurant, error) -> {
+			if (error != null) {
+				log.error("Error while fetching restaurant: {}", error.getMessage());
+				return ServiceResult.error(ErrorCode.INTERNAL_ERROR);
+			}
+			if (restaurant == null) {
+				log.error("Restaurant with ID {} not found", restaurantId);
+				return ServiceResult.error(ErrorCode.RESTAURANT_NOT_FOUND);
+			}
+			return ServiceResult.ok(toRestaurantResponse(restaurant));
+		});
+	}
+
+	public ServiceResult<RestaurantBatchResponse> getRestaurantBatch(RestaurantBatchRequest batchRequest) {
+		Set<Long> restaurantIds = distinctIds(batchRequest.getRestaurantIds());
+		Set<Long> menuItemIds = distinctIds(batchRequest.getMenuItemIds());
+		if (restaurantIds.size() + menuItemIds.size() > maxBatchIds) {
+			return ServiceResult.error(ErrorCode.BATCH_TOO_LARGE);
+		}
+		try {
+			// One IN query per entity, whatever the number of ids
+			List<Restaurant> restaurants = restaurantIds.isEmpty() ? Collections.emptyList()
+					: restaurantRepository.findAllWithOwnerByIdIn(restaurantIds);
+			List<RestaurantMenu> menuItems = menuItemIds.isEmpty() ? Collections.emptyList()
+					: restaurantMenuRepository.findAllWithRestaurantByIdIn(menuItemIds);
+
+			restaurants.forEach(restaurant -> restaurantIds.remove(restaurant.getId()));
+			menuItems.forEach(menuItem -> menuItemIds.remove(menuItem.getId()));
+
+			return ServiceResult.ok(RestaurantBatchResponse.builder()
+					.restaurants(restaurants.stream().map(this::toRestaurantResponse).collect(Collectors.toList()))
+					.menuItems(menuItems.stream().map(this::toMenuItemResponse).collect(Collectors.toList()))
+					.missingRestaurantIds(new ArrayList<>(restaurantIds))
+					.missingMenuItemIds(new ArrayList<>(menuItemIds)).build());
+		} catch (Exception e) {
+			log.error("Error while fetching restaurant batch: {}", e.getMessage());
+			return ServiceResult.error(ErrorCode.INTERNAL_ERROR);
+		}
 	}
 
 	public List<Restaurant> getAllRestaurants() {
 		return restaurantRepository.findAll();
 	}
 
-	public RestaurantResponse registerRestaurant(RestaurantRequest restaurantRequest) {
+	public ServiceResult<RestaurantResponse> registerRestaurant(RestaurantRequest restaurantRequest) {
 		try {
-			// Check if a restaurant with the given contact number already exists
-			Restaurant existingRestaurant = restaurantRepository.findByContactNo(restaurantRequest.getContactNo());
-			if (existingRestaurant != null) {
+			// Check if a restaurant with the given contact number already exists, unless it is definitely new
+			if (knownNumbers.mightHaveRestaurantContactNo(restaurantRequest.getContactNo())
+					&& restaurantRepository.findByContactNo(restaurantRequest.getContactNo()) != null) {
 				log.error("Restaurant with contact number {} already exists", restaurantRequest.getContactNo());
-				throw new ServiceException(HttpStatus.BAD_REQUEST,
-						"Restaurant with contact number " + restaurantRequest.getContactNo() + " already exists");
+				return ServiceResult.error(ErrorCode.DUPLICATE_RESTAURANT_CONTACT_NO);
 			}
 			RestaurantOwner restaurantOwner = restaurantOwnerRepository.findById(restaurantRequest.getOwnerId()).orElse(null);
+			if (restaurantOwner == null) {
+				log.error("Restaurant owner with ID {} not found", restaurantRequest.getOwnerId());
+				return ServiceResult.error(ErrorCode.RESTAURANT_OWNER_NOT_FOUND);
+			}
 
 			// Create a new restaurant
 			Restaurant newRestaurant = Restaurant.builder().name(restaurantRequest.getName())
 					.address(restaurantRequest.getAddress()).contactNo(restaurantRequest.getContactNo())
 					.openingDays(restaurantRequest.getOpeningDays()).openingTime(restaurantRequest.getOpeningTime())
 					.closingTime(restaurantRequest.getClosingTime()).dineIn(restaurantRequest.isDineIn())
-					.takeAway(restaurantRequest.isTakeAway()).owner(restaurantOwner).isDeleted(false).isArchived(false)
+					.takeAway(restaurantRequest.isTakeAway()).owner(restaurantOwner).status(RestaurantStatus.PENDING).isDeleted(false).isArchived(false)
 					.createdAt(LocalDateTime.now()).updatedAt(LocalDateTime.now()).build();
 
 			// Save the new restaurant to the database
 			restaurantRepository.save(newRestaurant);
+			knownNumbers.addRestaurantContactNo(newRestaurant.getContactNo());
 
 			log.info("Restaurant added successfully with contact number: {}", restaurantRequest.getContactNo());
 
-			return RestaurantResponse.builder().restaurantId(newRestaurant.getId()).name(newRestaurant.getName())
-					.address(newRestaurant.getAddress()).contactNo(newRestaurant.getContactNo()).status("ACTIVE")
-					.dineIn(newRestaurant.getDineIn()).takeAway(newRestaurant.getTakeAway()).ownerId(restaurantOwner.getId()).build();
+			return ServiceResult.ok(RestaurantResponse.builder().restaurantId(newRestaurant.getId()).name(newRestaurant.getName())
+					.address(newRestaurant.getAddress()).contactNo(newRestaurant.getContactNo()).status(newRestaurant.getStatus().name())
+					.dineIn(newRestaurant.getDineIn()).takeAway(newRestaurant.getTakeAway()).ownerId(restaurantOwner.getId()).build());
 
-		} catch (ServiceException e) {
+		} catch (DataIntegrityViolationException e) {
+			// Another instance may have stored the number after our pre-check; the unique index catches it
+			if (restaurantRepository.findByContactNo(restaurantRequest.getContactNo()) != null) {
+				log.error("Restaurant with contact number {} already exists", restaurantRequest.getContactNo());
+				knownNumbers.addRestaurantContactNo(restaurantRequest.getContactNo());
+				return ServiceResult.error(ErrorCode.DUPLICATE_RESTAURANT_CONTACT_NO);
+			}
 			log.error("Error while registering restaurant: {}", e.getMessage());
-			throw e;
+			return ServiceResult.error(ErrorCode.INTERNAL_ERROR);
 		} catch (Exception e) {
 			log.error("Error while registering restaurant: {}", e.getMessage());
-			throw new ServiceException(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred");
+			return ServiceResult.error(ErrorCode.INTERNAL_ERROR);
 		}
 	}
 
-	public List<MenuItemResponse> addMenuToRestaurant(Long restaurantId, List<MenuItemRequest> menuItems) {
-		// Find the restaurant by ID
-		Restaurant restaurant = restaurantRepository.findById(restaurantId).orElseThrow(
-				() -> new ServiceException(HttpStatus.NOT_FOUND, "Restaurant with ID " + restaurantId + " not found"));
+	public ServiceResult<List<MenuItemResponse>> addMenuToRestaurant(Long restaurantId, List<MenuItemRequest> menuItems) {
+		try {
+			// Find the restaurant by ID
+			Restaurant restaurant = restaurantRepository.findById(restaurantId).orElse(null);
+			if (restaurant == null) {
+				log.error("Restaurant with ID {} not found", restaurantId);
+				return ServiceResult.error(ErrorCode.RESTAURANT_NOT_FOUND);
+			}
+			if (!menuItems.stream().allMatch(menuItemRequest -> hasValidPriceScale(menuItemRequest.getItemPrice()))) {
+				log.error("Menu item price with more than {} decimal places for restaurant {}", RestaurantMenu.PRICE_SCALE, restaurantId);
+				return ServiceResult.error(ErrorCode.INVALID_PRICE);
+			}
 
-		List<RestaurantMenu> restaurantMenuItems = menuItems.stream().map(menuItemRequest -> RestaurantMenu.builder().restaurant(restaurant).itemName(menuItemRequest.getItemName())
-                .itemDescription(menuItemRequest.getItemDescription()).itemPrice(menuItemRequest.getItemPrice())
-                .isAvailable(menuItemRequest.getIsAvailable()).isDeleted(false).isArchived(false)
-                .createdAt(LocalDateTime.now()).updatedAt(LocalDateTime.now()).build()).collect(Collectors.toList());
+			List<RestaurantMenu> restaurantMenuItems = menuItems.stream().map(menuItemRequest -> RestaurantMenu.builder().restaurant(restaurant).itemName(menuItemRequest.getItemName())
+					.itemDescription(menuItemRequest.getItemDescription()).itemPrice(menuItemRequest.getItemPrice())
+					.isAvailable(menuItemRequest.getIsAvailable()).isDeleted(false).isArchived(false)
+					.createdAt(LocalDateTime.now()).updatedAt(LocalDateTime.now()).build()).collect(Collectors.toList());
 
-		// Save the list of RestaurantMenu items
-		restaurantMenuRepository.saveAll(restaurantMenuItems);
+			// Save the list of RestaurantMenu items
+			restaurantMenuRepository.saveAll(restaurantMenuItems);
 
-		List<MenuItemResponse> response = restaurantMenuItems.stream().map(menuItem -> {
+			List<MenuItemResponse> response = restaurantMenuItems.stream().map(menuItem -> {
 
-			return MenuItemResponse.builder().id(menuItem.getId()).itemName(menuItem.getItemName())
-					.itemDescription(menuItem.getItemDescription()).itemPrice(menuItem.getItemPrice())
-					.isAvailable(menuItem.getIsAvailable()).build();
-		}).collect(Collectors.toList());
+				return MenuItemResponse.builder().id(menuItem.getId()).itemName(menuItem.getItemName())
+						.itemDescription(menuItem.getItemDescription()).itemPrice(menuItem.getItemPrice())
+						.isAvailable(menuItem.getIsAvailable()).build();
+			}).collect(Collectors.toList());
 
-		return response;
+			return ServiceResult.ok(response);
+		} catch (Exception e) {
+			log.error("Error while adding menu items: {}", e.getMessage());
+			return ServiceResult.error(ErrorCode.INTERNAL_ERROR);
+		}
 	}
 
-	public RestaurantResponse updateRestaurant(Long restaurantId, RestaurantRequest restaurantRequest) {
+	public ServiceResult<RestaurantResponse> updateRestaurant(Long restaurantId, RestaurantRequest restaurantRequest) {
 		try {
 			// Check if the restaurant exists
-			Restaurant existingRestaurant = restaurantRepository.findById(restaurantId)
-					.orElseThrow(() -> new ServiceException(HttpStatus.NOT_FOUND, "Restaurant not found"));
+			Restaurant existingRestaurant = restaurantRepository.findById(restaurantId).orElse(null);
+			if (existingRestaurant == null) {
+				log.error("Restaurant with ID {} not found", restaurantId);
+				return ServiceResult.error(ErrorCode.RESTAURANT_NOT_FOUND);
+			}
 
 			// Check if another restaurant with the same contact number exists (but not the
-			// current one)
-			Restaurant duplicateRestaurant = restaurantRepository
-					.findByContactNoAndIdNot(restaurantRequest.getContactNo(), restaurantId);
-			if (duplicateRestaurant != null) {
+			// current one), unless the number is definitely new
+			if (knownNumbers.mightHaveRestaurantContactNo(restaurantRequest.getContactNo()) && restaurantRepository
+					.findByContactNoAndIdNot(restaurantRequest.getContactNo(), restaurantId) != null) {
 				log.error("Restaurant with contact number {} already exists", restaurantRequest.getContactNo());
-				throw new ServiceException(HttpStatus.BAD_REQUEST,
-						"Restaurant with contact number " + restaurantRequest.getContactNo() + " already exists");
+				return ServiceResult.error(ErrorCode.DUPLICATE_RESTAURANT_CONTACT_NO);
 			}
 
 			// Update the restaurant details
@@ -130,25 +212,28 @@ public class RestaurantService {
 
 			log.info("Restaurant updated successfully with ID: {}", restaurantId);
 
-			return RestaurantResponse.builder().restaurantId(existingRestaurant.getId())
+			return ServiceResult.ok(RestaurantResponse.builder().restaurantId(existingRestaurant.getId())
 					.name(existingRestaurant.getName()).address(existingRestaurant.getAddress())
-					.contactNo(existingRestaurant.getContactNo()).status("ACTIVE").dineIn(existingRestaurant.getDineIn())
-					.takeAway(existingRestaurant.getTakeAway()).build();
+					.contactNo(existingRestaurant.getContactNo()).status(existingRestaurant.getStatus().name()).dineIn(existingRestaurant.getDineIn())
+					.takeAway(existingRestaurant.getTakeAway()).build());
 
-		} catch (ServiceException e) {
-			log.error("Error while updating restaurant: {}", e.getMessage());
-			throw e;
 		} catch (Exception e) {
 			log.error("Error while updating restaurant: {}", e.getMessage());
-			throw new ServiceException(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred");
+			return ServiceResult.error(ErrorCode.INTERNAL_ERROR);
 		}
 	}
 
-	public MenuItemResponse updateMenuItem(Long itemId, MenuItemRequest menuItems) {
+	public ServiceResult<MenuItemResponse> updateMenuItem(Long itemId, MenuItemRequest menuItems) {
 		try {
-				RestaurantMenu existingMenuItem = restaurantMenuRepository.findById(itemId)
-						.orElseThrow(() -> new ServiceException(HttpStatus.NOT_FOUND,
-								"Menu item with ID " + itemId + " not found"));
+				RestaurantMenu existingMenuItem = restaurantMenuRepository.findById(itemId).orElse(null);
+				if (existingMenuItem == null) {
+					log.error("Menu item with ID {} not found", itemId);
+					return ServiceResult.error(ErrorCode.MENU_ITEM_NOT_FOUND);
+				}
+				if (!hasValidPriceScale(menuItems.getItemPrice())) {
+					log.error("Menu item price with more than {} decimal places for item {}", RestaurantMenu.PRICE_SCALE, itemId);
+					return ServiceResult.error(ErrorCode.INVALID_PRICE);
+				}
 
 				existingMenuItem.setItemName(menuItems.getItemName());
 				existingMenuItem.setItemDescription(menuItems.getItemDescription());
@@ -158,28 +243,23 @@ public class RestaurantService {
 
 			restaurantMenuRepository.save(existingMenuItem);
 
-			return MenuItemResponse.builder().id(existingMenuItem.getId()).itemName(existingMenuItem.getItemName())
+			return ServiceResult.ok(MenuItemResponse.builder().id(existingMenuItem.getId()).itemName(existingMenuItem.getItemName())
 						.itemDescription(existingMenuItem.getItemDescription()).itemPrice(existingMenuItem.getItemPrice())
-						.isAvailable(existingMenuItem.getIsAvailable()).build();
+						.isAvailable(existingMenuItem.getIsAvailable()).build());
 
-		} catch (ServiceException e) {
-			log.error("Error while updating menu items: {}", e.getMessage());
-			throw e;
 		} catch (Exception e) {
 			log.error("Error while updating menu items: {}", e.getMessage());
-			throw new ServiceException(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred");
+			return ServiceResult.error(ErrorCode.INTERNAL_ERROR);
 		}
 	}
 
-	public RestaurantOwnerResponse registerRestaurantOwner(RestaurantOwnerRequest restaurantOwnerRequest) {
+	public ServiceResult<RestaurantOwnerResponse> registerRestaurantOwner(RestaurantOwnerRequest restaurantOwnerRequest) {
 		try {
-			// Check if a restaurant owner with the given contact number already exists
-			RestaurantOwner existingRestaurantOwner = restaurantOwnerRepository
-					.findByMobileNumber(restaurantOwnerRequest.getMobileNumber());
-
-			if(existingRestaurantOwner != null) {
+			// Check if a restaurant owner with the given contact number already exists, unless it is definitely new
+			if(knownNumbers.mightHaveOwnerMobileNumber(restaurantOwnerRequest.getMobileNumber()) && restaurantOwnerRepository
+					.findByMobileNumber(restaurantOwnerRequest.getMobileNumber()) != null) {
 				log.error("Restaurant owner with contact number {} already exists", restaurantOwnerRequest.getMobileNumber());
-				throw new ServiceException(HttpStatus.BAD_REQUEST, "Restaurant owner with contact number " + restaurantOwnerRequest.getMobileNumber() + " already exists");
+				return ServiceResult.error(ErrorCode.DUPLICATE_OWNER_MOBILE_NUMBER);
 			}
             // Create a new restaurant owner
 			RestaurantOwner newRestaurantOwner = RestaurantOwner.builder().name(restaurantOwnerRequest.getName())
@@ -189,26 +269,119 @@ public class RestaurantService {
 
 			// Save the new restaurant owner to the database
 			restaurantOwnerRepository.save(newRestaurantOwner);
+			knownNumbers.addOwnerMobileNumber(newRestaurantOwner.getMobileNumber());
 
 			log.info("Restaurant owner added successfully with contact number: {}", restaurantOwnerRequest.getMobileNumber());
 
-			return RestaurantOwnerResponse.builder().ownerId(newRestaurantOwner.getId()).name(newRestaurantOwner.getName())
-					.mobileNumber(newRestaurantOwner.getMobileNumber()).email(newRestaurantOwner.getEmail()).build();
+			return ServiceResult.ok(RestaurantOwnerResponse.builder().ownerId(newRestaurantOwner.getId()).name(newRestaurantOwner.getName())
+					.mobileNumber(newRestaurantOwner.getMobileNumber()).email(newRestaurantOwner.getEmail()).build());
 
-		} catch (ServiceException e) {
+		} catch (DataIntegrityViolationException e) {
+			if (restaurantOwnerRepository.findByMobileNumber(restaurantOwnerRequest.getMobileNumber()) != null) {
+				log.error("Restaurant owner with contact number {} already exists", restaurantOwnerRequest.getMobileNumber());
+				knownNumbers.addOwnerMobileNumber(restaurantOwnerRequest.getMobileNumber());
+				return ServiceResult.error(ErrorCode.DUPLICATE_OWNER_MOBILE_NUMBER);
+			}
 			log.error("Error while registering restaurant owner: {}", e.getMessage());
-			throw e;
+			return ServiceResult.error(ErrorCode.INTERNAL_ERROR);
 		} catch (Exception e) {
 			log.error("Error while registering restaurant owner: {}", e.getMessage());
-			throw new ServiceException(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred");
+			return ServiceResult.error(ErrorCode.INTERNAL_ERROR);
+		}
+	}
+
+	public ServiceResult<RestaurantResponse> changeRestaurantStatus(Long restaurantId, RestaurantEvent event) {
+		try {
+			Restaurant restaurant = restaurantRepository.findById(restaurantId).orElse(null);
+			if (restaurant == null) {
+				log.error("Restaurant with ID {} not found", restaurantId);
+				return ServiceResult.error(ErrorCode.RESTAURANT_NOT_FOUND);
+			}
+			RestaurantStatus current = restaurant.getStatus();
+			RestaurantStatus next = restaurantTransitionTable.apply(current, event).orElse(null);
+			if (next == null) {
+				log.error("Event {} not allowed for restaurant {} in status {}", event, restaurantId, current);
+				return ServiceResult.error(ErrorCode.INVALID_STATUS_TRANSITION);
+			}
+			if (restaurantRepository.updateStatus(restaurantId, current, next, LocalDateTime.now()) == 0) {
+				log.error("Status of restaurant {} changed concurrently while applying {}", restaurantId, event);
+				return ServiceResult.error(ErrorCode.STATUS_UPDATE_CONFLICT);
+			}
+			restaurant.setStatus(next);
+
+			log.info("Restaurant {} moved from {} to {}", restaurantId, current, next);
+			return ServiceResult.ok(toRestaurantResponse(restaurant));
+		} catch (Exception e) {
+			log.error("Error while changing restaurant status: {}", e.getMessage());
+			return ServiceResult.error(ErrorCode.INTERNAL_ERROR);
+		}
+	}
+
+	// Applies the event to all of an owner's restaurants with one UPDATE per distinct current status. Counts and updates run
+	// in one transaction, and rows are counted per status, so updated + skipped always adds up to the owner's restaurants.
+	@Transactional
+	public ServiceResult<RestaurantLifecycleBatchResponse> changeOwnerRestaurantsStatus(Long ownerId, RestaurantEvent event) {
+		try {
+			if (!restaurantOwnerRepository.existsById(ownerId)) {
+				log.error("Restaurant owner with ID {} not found", ownerId);
+				return ServiceResult.error(ErrorCode.RESTAURANT_OWNER_NOT_FOUND);
+			}
+			long updated = 0;
+			long skipped = 0;
+			LocalDateTime now = LocalDateTime.now();
+			for (RestaurantRepository.StatusCount statusCount : restaurantRepository.countByOwnerIdGroupByStatus(ownerId)) {
+				RestaurantStatus current = statusCount.getStatus();
+				Optional<RestaurantStatus> next = restaurantTransitionTable.apply(current, event);
+				long moved = 0;
+				if (next.isPresent()) {
+					// Capped at the count so a row that reached this status after the count cannot push skipped below zero
+					moved = Math.min(statusCount.getTotal(), restaurantRepository.updateStatusByOwnerId(ownerId, current, next.get(), now));
+				}
+				updated += moved;
+				skipped += statusCount.getTotal() - moved;
+			}
+
+			log.info("Applied {} to {} of {} restaurants of owner {}", event, updated, updated + skipped, ownerId);
+			return ServiceResult.ok(RestaurantLifecycleBatchResponse.builder().ownerId(ownerId).event(event.name())
+					.updated(updated).skipped(skipped).build());
+		} catch (Exception e) {
+			log.error("Error while changing status of owner restaurants: {}", e.getMessage());
+			// The exception is not rethrown, so roll back any UPDATE that already ran explicitly
+			TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+			return ServiceResult.error(ErrorCode.INTERNAL_ERROR);
+		}
+	}
+
+	private RestaurantResponse toRestaurantResponse(Restaurant restaurant) {
+		return RestaurantResponse.builder().restaurantId(restaurant.getId()).name(restaurant.getName())
+				.address(restaurant.getAddress()).contactNo(restaurant.getContactNo()).status(restaurant.getStatus().name())
+				.dineIn(restaurant.getDineIn()).takeAway(restaurant.getTakeAway()).ownerId(restaurant.getOwner().getId()).build();
+	}
+
+	private MenuItemResponse toMenuItemResponse(RestaurantMenu menuItem) {
+		return MenuItemResponse.builder().id(menuItem.getId()).itemName(menuItem.getItemName())
+				.itemDescription(menuItem.getItemDescription()).itemPrice(menuItem.getItemPrice())
+				.isAvailable(menuItem.getIsAvailable()).build();
+	}
+
+	// Rejects prices the DECIMAL(10,2) column would round, so every wire format returns exactly what was stored
+	private static boolean hasValidPriceScale(BigDecimal price) {
+		return price == null || price.stripTrailingZeros().scale() <= RestaurantMenu.PRICE_SCALE;
+	}
+
+	private static Set<Long> distinctIds(List<Long> ids) {
+		Set<Long> distinct = new LinkedHashSet<>();
+		if (ids != null) {
+			ids.stream().filter(Objects::nonNull).forEach(distinct::add);
 		}
+		return distinct;
 	}
 
 	private Boolean isValidRestaurantOwner(Long restaurantOwnerId, Long restaurantId) {
 		Restaurant restaurant = restaurantRepository.findById(restaurantId).orElse(null);
 		if(restaurant == null) {
 			log.error("Restaurant with ID {} not found", restaurantId);
-			throw new ServiceException(HttpStatus.NOT_FOUND, "Restaurant with ID " + restaurantId + " not found");
+			throw new ServiceException(ErrorCode.RESTAURANT_NOT_FOUND);
 		}
 		return restaurant.getOwner().getId().equals(restaurantOwnerId);
 	}
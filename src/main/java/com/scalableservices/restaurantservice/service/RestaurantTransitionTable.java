@@ -0,0 +1,64 @@
+package com.scalableservices.restaurantservice.service;
+
+import com.scalableservices.restaurantservice.model.RestaurantEvent;
+import com.scalableservices.restaurantservice.model.RestaurantStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.statemachine.StateMachine;
+import org.springframework.statemachine.StateMachineEventResult;
+import org.springframework.statemachine.config.StateMachineFactory;
+import org.springframework.statemachine.support.DefaultStateMachineContext;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import javax.annotation.PostConstruct;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+// The lifecycle has no guards or actions, so the outcome of an event only depends on (status, event). The whole table is
+// resolved once at startup by rewinding a single machine to every status and firing every event; lookups never touch
+// the state machine.
+@Component
+public class RestaurantTransitionTable {
+    @Autowired
+    private StateMachineFactory<RestaurantStatus, RestaurantEvent> stateMachineFactory;
+
+    // Target status per (status, event); a missing entry means the lifecycle does not allow the event
+    private final Map<RestaurantStatus, Map<RestaurantEvent, RestaurantStatus>> transitions = new EnumMap<>(RestaurantStatus.class);
+
+    @PostConstruct
+    public void init() {
+        StateMachine<RestaurantStatus, RestaurantEvent> machine = stateMachineFactory.getStateMachine();
+        machine.startReactively().block();
+        try {
+            for (RestaurantStatus current : RestaurantStatus.values()) {
+                Map<RestaurantEvent, RestaurantStatus> targets = new EnumMap<>(RestaurantEvent.class);
+                for (RestaurantEvent event : RestaurantEvent.values()) {
+                    run(machine, current, event).ifPresent(target -> targets.put(event, target));
+                }
+                transitions.put(current, targets);
+            }
+        } finally {
+            machine.stopReactively().block();
+        }
+    }
+
+    // Returns the status reached by applying the event, or empty if the lifecycle does not allow it
+    public Optional<RestaurantStatus> apply(RestaurantStatus current, RestaurantEvent event) {
+        return Optional.ofNullable(transitions.get(current).get(event));
+    }
+
+    private static Optional<RestaurantStatus> run(StateMachine<RestaurantStatus, RestaurantEvent> machine,
+                                                  RestaurantStatus current, RestaurantEvent event) {
+        machine.getStateMachineAccessor().doWithAllRegions(access ->
+                access.resetStateMachineReactively(new DefaultStateMachineContext<>(current, null, null, null)).block());
+
+        StateMachineEventResult<RestaurantStatus, RestaurantEvent> result = machine
+                .sendEvent(Mono.just(MessageBuilder.withPayload(event).build())).blockLast();
+        if (result == null || result.getResultType() != StateMachineEventResult.ResultType.ACCEPTED) {
+            return Optional.empty();
+        }
+        return Optional.of(machine.getState().getId());
+    }
+}
@@ -0,0 +1,44 @@
+package com.scalableservices.restaurantservice.service;
+
+import com.scalableservices.restaurantservice.exception.ErrorCode;
+
+// Either a value or the error code of an expected rejection, so routine failures don't need exceptions
+public final class ServiceResult<T> {
+    private static final ServiceResult<?>[] ERRORS = new ServiceResult<?>[ErrorCode.values().length];
+
+    static {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            ERRORS[errorCode.ordinal()] = new ServiceResult<>(null, errorCode);
+        }
+    }
+
+    private final T value;
+    private final ErrorCode errorCode;
+
+    private ServiceResult(T value, ErrorCode errorCode) {
+        this.value = value;
+        this.errorCode = errorCode;
+    }
+
+    public static <T> ServiceResult<T> ok(T value) {
+        return new ServiceResult<>(value, null);
+    }
+
+    // Error results carry no value, so one shared instance per code is enough
+    @SuppressWarnings("unchecked")
+    public static <T> ServiceResult<T> error(ErrorCode errorCode) {
+        return (ServiceResult<T>) ERRORS[errorCode.ordinal()];
+    }
+
+    public boolean isOk() {
+        return errorCode == null;
+    }
+
+    public T getValue() {
+        return value;
+    }
+
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+}
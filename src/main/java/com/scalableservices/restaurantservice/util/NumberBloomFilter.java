@@ -0,0 +1,77 @@
+package com.scalableservices.restaurantservice.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Lock-free Bloom filter for phone numbers. Digit-only numbers are hashed from their long value, anything else from its chars.
+public class NumberBloomFilter {
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    public NumberBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (optimalBits + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / Math.max(1, expectedInsertions) * Math.log(2)));
+    }
+
+    public void put(String number) {
+        long hash = hash(number);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = bitIndex(h1 + i * h2);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            while (((current = bits.get(word)) & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                // retry until the bit is set
+            }
+        }
+    }
+
+    public boolean mightContain(String number) {
+        long hash = hash(number);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = bitIndex(h1 + i * h2);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long bitIndex(int combinedHash) {
+        return ((combinedHash & 0xffffffffL) % bitCount);
+    }
+
+    private static long hash(String number) {
+        long value = 0;
+        boolean digitsOnly = !number.isEmpty() && number.length() <= 18;
+        for (int i = 0; i < number.length() && digitsOnly; i++) {
+            char c = number.charAt(i);
+            if (c < '0' || c > '9') {
+                digitsOnly = false;
+            } else {
+                value = value * 10 + (c - '0');
+            }
+        }
+        if (!digitsOnly) {
+            // FNV-1a
+            value = 0xcbf29ce484222325L;
+            for (int i = 0; i < number.length(); i++) {
+                value = (value ^ number.charAt(i)) * 0x100000001b3L;
+            }
+        }
+        // murmur3 fmix64 so neighbouring numbers spread across the whole bit array
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,5 @@
+ALTER TABLE restaurants
+    ADD UNIQUE KEY `uk_restaurants_contact_no` (`contact_no`);
+
+ALTER TABLE restaurant_owners
+    ADD UNIQUE KEY `uk_restaurant_owners_mobile_number` (`mobile_number`);
@@ -0,0 +1,9 @@
+-- Restaurants registered before the lifecycle existed were always reported as ACTIVE
+ALTER TABLE restaurants
+    ADD COLUMN status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE' AFTER take_away;
+
+ALTER TABLE restaurants
+    ALTER COLUMN status SET DEFAULT 'PENDING';
+
+ALTER TABLE restaurants
+    ADD KEY `idx_restaurants_owner_id_status` (`owner_id`, `status`);
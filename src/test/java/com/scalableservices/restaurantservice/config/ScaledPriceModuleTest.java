@@ -0,0 +1,60 @@
+package com.scalableservices.restaurantservice.config;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.scalableservices.restaurantservice.dto.restaurant.MenuItemRequest;
+import com.scalableservices.restaurantservice.dto.restaurant.MenuItemResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScaledPriceModuleTest {
+    // Built the same way as the converters registered in WebConfig
+    private final ObjectMapper smileMapper = Jackson2ObjectMapperBuilder.smile().modulesToInstall(new ScaledPriceModule()).build();
+    private final ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.cbor().modulesToInstall(new ScaledPriceModule()).build();
+
+    @Test
+    void roundTripsPricesAsMinorUnits() throws Exception {
+        for (ObjectMapper mapper : new ObjectMapper[]{smileMapper, cborMapper}) {
+            MenuItemResponse item = MenuItemResponse.builder().id(1L).itemName("Paneer tikka")
+                    .itemPrice(new BigDecimal("149.50")).isAvailable(true).build();
+            byte[] encoded = mapper.writeValueAsBytes(item);
+
+            JsonNode tree = mapper.readTree(encoded);
+            assertTrue(tree.get("itemPrice").isIntegralNumber());
+            assertEquals(14950L, tree.get("itemPrice").longValue());
+            assertEquals(item, mapper.readValue(encoded, MenuItemResponse.class));
+        }
+    }
+
+    @Test
+    void rejectsFloatingPointPrices() throws Exception {
+        for (ObjectMapper mapper : new ObjectMapper[]{smileMapper, cborMapper}) {
+            byte[] encoded = mapper.writeValueAsBytes(Collections.singletonMap("itemPrice", 149.5));
+
+            assertThrows(MismatchedInputException.class, () -> mapper.readValue(encoded, MenuItemRequest.class));
+        }
+    }
+
+    @Test
+    void rejectsPricesSentAsStrings() throws Exception {
+        byte[] encoded = smileMapper.writeValueAsBytes(Collections.singletonMap("itemPrice", "14950"));
+
+        assertThrows(MismatchedInputException.class, () -> smileMapper.readValue(encoded, MenuItemRequest.class));
+    }
+
+    @Test
+    void refusesToRoundSubCentPrices() {
+        MenuItemResponse item = MenuItemResponse.builder().itemPrice(new BigDecimal("149.505")).build();
+
+        assertThrows(JsonMappingException.class, () -> smileMapper.writeValueAsBytes(item));
+    }
+}
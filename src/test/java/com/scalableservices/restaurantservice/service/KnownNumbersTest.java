@@ -0,0 +1,63 @@
+package com.scalableservices.restaurantservice.service;
+
+import com.scalableservices.restaurantservice.repository.RestaurantOwnerRepository;
+import com.scalableservices.restaurantservice.repository.RestaurantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class KnownNumbersTest {
+    @Mock
+    private RestaurantRepository restaurantRepository;
+    @Mock
+    private RestaurantOwnerRepository restaurantOwnerRepository;
+    @InjectMocks
+    private KnownNumbers knownNumbers;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(knownNumbers, "expectedInsertions", 1_000L);
+        ReflectionTestUtils.setField(knownNumbers, "falsePositiveRate", 0.01);
+        knownNumbers.init();
+    }
+
+    @Test
+    void treatsEveryNumberAsPossiblyKnownUntilWarmedUp() {
+        assertTrue(knownNumbers.mightHaveRestaurantContactNo("9000000001"));
+        assertTrue(knownNumbers.mightHaveOwnerMobileNumber("9000000001"));
+    }
+
+    @Test
+    void answersFromTheFiltersAfterWarmUp() {
+        when(restaurantRepository.findAllContactNos()).thenReturn(Collections.singletonList("9000000001"));
+        when(restaurantOwnerRepository.findAllMobileNumbers()).thenReturn(Collections.singletonList("9000000002"));
+        knownNumbers.warmUp();
+
+        assertTrue(knownNumbers.mightHaveRestaurantContactNo("9000000001"));
+        assertFalse(knownNumbers.mightHaveRestaurantContactNo("9000000002"));
+        assertTrue(knownNumbers.mightHaveOwnerMobileNumber("9000000002"));
+        assertFalse(knownNumbers.mightHaveOwnerMobileNumber("9000000001"));
+
+        knownNumbers.addRestaurantContactNo("9000000003");
+        assertTrue(knownNumbers.mightHaveRestaurantContactNo("9000000003"));
+    }
+
+    @Test
+    void keepsHittingTheDbWhenWarmUpFails() {
+        when(restaurantRepository.findAllContactNos()).thenThrow(new IllegalStateException("db down"));
+        knownNumbers.warmUp();
+
+        assertTrue(knownNumbers.mightHaveRestaurantContactNo("9000000004"));
+    }
+}
@@ -0,0 +1,98 @@
+package com.scalableservices.restaurantservice.service;
+
+import com.scalableservices.restaurantservice.dto.restaurant.RestaurantOwnerRequest;
+import com.scalableservices.restaurantservice.dto.restaurant.RestaurantOwnerResponse;
+import com.scalableservices.restaurantservice.dto.restaurant.RestaurantRequest;
+import com.scalableservices.restaurantservice.dto.restaurant.RestaurantResponse;
+import com.scalableservices.restaurantservice.exception.ErrorCode;
+import com.scalableservices.restaurantservice.model.Restaurant;
+import com.scalableservices.restaurantservice.model.RestaurantOwner;
+import com.scalableservices.restaurantservice.repository.RestaurantMenuRepository;
+import com.scalableservices.restaurantservice.repository.RestaurantOwnerRepository;
+import com.scalableservices.restaurantservice.repository.RestaurantRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// A number the Bloom filter reports as new can still collide in the DB; the unique index decides
+@ExtendWith(MockitoExtension.class)
+class RestaurantServiceDuplicateNumberTest {
+    private static final String CONTACT_NO = "9876543210";
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+    @Mock
+    private RestaurantOwnerRepository restaurantOwnerRepository;
+    @Mock
+    private RestaurantMenuRepository restaurantMenuRepository;
+    @Mock
+    private KnownNumbers knownNumbers;
+    @InjectMocks
+    private RestaurantService restaurantService;
+
+    @Test
+    void restaurantInsertRejectedByUniqueIndexIsReportedAsDuplicate() {
+        when(restaurantOwnerRepository.findById(1L)).thenReturn(Optional.of(RestaurantOwner.builder().id(1L).build()));
+        when(restaurantRepository.save(any(Restaurant.class))).thenThrow(new DataIntegrityViolationException("uk_restaurants_contact_no"));
+        when(restaurantRepository.findByContactNo(CONTACT_NO)).thenReturn(Restaurant.builder().id(7L).contactNo(CONTACT_NO).build());
+
+        ServiceResult<RestaurantResponse> result = restaurantService.registerRestaurant(restaurantRequest());
+
+        assertEquals(ErrorCode.DUPLICATE_RESTAURANT_CONTACT_NO, result.getErrorCode());
+        verify(knownNumbers).addRestaurantContactNo(CONTACT_NO);
+    }
+
+    @Test
+    void restaurantInsertFailingForAnotherReasonIsAnInternalError() {
+        when(restaurantOwnerRepository.findById(1L)).thenReturn(Optional.of(RestaurantOwner.builder().id(1L).build()));
+        when(restaurantRepository.save(any(Restaurant.class))).thenThrow(new DataIntegrityViolationException("not null"));
+        when(restaurantRepository.findByContactNo(CONTACT_NO)).thenReturn(null);
+
+        ServiceResult<RestaurantResponse> result = restaurantService.registerRestaurant(restaurantRequest());
+
+        assertEquals(ErrorCode.INTERNAL_ERROR, result.getErrorCode());
+        verify(knownNumbers, never()).addRestaurantContactNo(any());
+    }
+
+    @Test
+    void ownerInsertRejectedByUniqueIndexIsReportedAsDuplicate() {
+        when(restaurantOwnerRepository.save(any(RestaurantOwner.class))).thenThrow(new DataIntegrityViolationException("uk_owners_mobile"));
+        when(restaurantOwnerRepository.findByMobileNumber(CONTACT_NO)).thenReturn(RestaurantOwner.builder().id(3L).build());
+
+        ServiceResult<RestaurantOwnerResponse> result = restaurantService.registerRestaurantOwner(ownerRequest());
+
+        assertEquals(ErrorCode.DUPLICATE_OWNER_MOBILE_NUMBER, result.getErrorCode());
+        verify(knownNumbers).addOwnerMobileNumber(CONTACT_NO);
+    }
+
+    @Test
+    void ownerInsertFailingForAnotherReasonIsAnInternalError() {
+        when(restaurantOwnerRepository.save(any(RestaurantOwner.class))).thenThrow(new DataIntegrityViolationException("not null"));
+        when(restaurantOwnerRepository.findByMobileNumber(CONTACT_NO)).thenReturn(null);
+
+        ServiceResult<RestaurantOwnerResponse> result = restaurantService.registerRestaurantOwner(ownerRequest());
+
+        assertEquals(ErrorCode.INTERNAL_ERROR, result.getErrorCode());
+        verify(knownNumbers, never()).addOwnerMobileNumber(any());
+    }
+
+    private static RestaurantRequest restaurantRequest() {
+        return RestaurantRequest.builder().name("Spice Route").address("MG Road").contactNo(CONTACT_NO)
+                .openingDays("Mon-Sun").openingTime("09:00").closingTime("23:00").ownerId(1L).build();
+    }
+
+    private static RestaurantOwnerRequest ownerRequest() {
+        return RestaurantOwnerRequest.builder().name("Asha").mobileNumber(CONTACT_NO).email("asha@example.com").build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.scalableservices.restaurantservice.service;
+
+import com.scalableservices.restaurantservice.config.RestaurantStateMachineConfig;
+import com.scalableservices.restaurantservice.model.RestaurantEvent;
+import com.scalableservices.restaurantservice.model.RestaurantStatus;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Resolves the table from the real lifecycle configuration and checks every (status, event) pair
+class RestaurantTransitionTableTest {
+    private static AnnotationConfigApplicationContext context;
+    private static RestaurantTransitionTable transitionTable;
+
+    @BeforeAll
+    static void setUp() {
+        context = new AnnotationConfigApplicationContext(RestaurantStateMachineConfig.class, RestaurantTransitionTable.class);
+        transitionTable = context.getBean(RestaurantTransitionTable.class);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        context.close();
+    }
+
+    // An empty target means the lifecycle rejects the event
+    @ParameterizedTest
+    @CsvSource({
+            "PENDING, ACTIVATE, ACTIVE",
+            "PENDING, PAUSE,",
+            "PENDING, RESUME,",
+            "PENDING, CLOSE, CLOSED",
+            "ACTIVE, ACTIVATE,",
+            "ACTIVE, PAUSE, PAUSED",
+            "ACTIVE, RESUME,",
+            "ACTIVE, CLOSE, CLOSED",
+            "PAUSED, ACTIVATE,",
+            "PAUSED, PAUSE,",
+            "PAUSED, RESUME, ACTIVE",
+            "PAUSED, CLOSE, CLOSED",
+            "CLOSED, ACTIVATE,",
+            "CLOSED, PAUSE,",
+            "CLOSED, RESUME,",
+            "CLOSED, CLOSE,"
+    })
+    void appliesTheLifecycle(RestaurantStatus current, RestaurantEvent event, RestaurantStatus expected) {
+        assertEquals(Optional.ofNullable(expected), transitionTable.apply(current, event));
+    }
+}
@@ -0,0 +1,49 @@
+package com.scalableservices.restaurantservice.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NumberBloomFilterTest {
+    private static final int INSERTIONS = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    void neverReportsAnInsertedNumberAsMissing() {
+        NumberBloomFilter filter = new NumberBloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put(mobileNumber(i));
+        }
+        for (int i = 0; i < INSERTIONS; i++) {
+            assertTrue(filter.mightContain(mobileNumber(i)), "false negative for " + mobileNumber(i));
+        }
+    }
+
+    @Test
+    void keepsFalsePositivesNearTheConfiguredRate() {
+        NumberBloomFilter filter = new NumberBloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put(mobileNumber(i));
+        }
+        int falsePositives = 0;
+        for (int i = INSERTIONS; i < 2 * INSERTIONS; i++) {
+            if (filter.mightContain(mobileNumber(i))) {
+                falsePositives++;
+            }
+        }
+        double rate = (double) falsePositives / INSERTIONS;
+        assertTrue(rate < FALSE_POSITIVE_RATE * 1.5, "false positive rate " + rate);
+    }
+
+    @Test
+    void handlesNumbersWithFormattingCharacters() {
+        NumberBloomFilter filter = new NumberBloomFilter(1_000, FALSE_POSITIVE_RATE);
+        filter.put("+91 98765-43210");
+        assertTrue(filter.mightContain("+91 98765-43210"));
+    }
+
+    // Consecutive 10-digit numbers, the worst case for a weak hash
+    private static String mobileNumber(int i) {
+        return String.valueOf(9_000_000_000L + i);
+    }
+}